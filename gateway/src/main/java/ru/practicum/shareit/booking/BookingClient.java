@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,18 +33,16 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findAllByBookerAndState(long userId, BookingState state) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name()
-        );
-        return get("?state={state}", userId, parameters);
+    public ResponseEntity<Object> findAllByBookerAndState(long userId, BookingState state, Long after, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        return get("?state={state}" + pageQuery(parameters, after, size), userId, parameters);
     }
 
-    public ResponseEntity<Object> findAllByOwnerAndState(long userId, BookingState state) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name()
-        );
-        return get("/owner?state={state}", userId, parameters);
+    public ResponseEntity<Object> findAllByOwnerAndState(long userId, BookingState state, Long after, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        return get("/owner?state={state}" + pageQuery(parameters, after, size), userId, parameters);
     }
 
     public ResponseEntity<Object> createBooking(long userId, BookingInDto requestDto) {
@@ -54,5 +53,16 @@ public class BookingClient extends BaseClient {
         return patch("/" + bookingId + "?approved=" + approved, userId);
     }
 
-
+    private String pageQuery(Map<String, Object> parameters, Long after, Integer size) {
+        StringBuilder query = new StringBuilder();
+        if (after != null) {
+            parameters.put("after", after);
+            query.append("&after={after}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.append("&size={size}");
+        }
+        return query.toString();
+    }
 }
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,11 +21,13 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> findAllByBookerAndState(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                          @RequestParam(name = "state", defaultValue = "all") String state) {
+                                                          @RequestParam(name = "state", defaultValue = "all") String state,
+                                                          @RequestParam(required = false) @Positive Long after,
+                                                          @RequestParam(required = false) @Positive Integer size) {
         BookingState bookingState = BookingState.from(state)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
-        log.info("Get booking with state {}, userId={}", state, userId);
-        return bookingClient.findAllByBookerAndState(userId, bookingState);
+        log.info("Get booking with state {}, userId={}, after={}, size={}", state, userId, after, size);
+        return bookingClient.findAllByBookerAndState(userId, bookingState, after, size);
     }
 
     @GetMapping("/{bookingId}")
@@ -36,11 +39,13 @@ public class BookingController {
 
     @GetMapping("/owner")
     public ResponseEntity<Object> findAllByItemOwnerAndState(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                             @RequestParam(name = "state", defaultValue = "all") String state) {
+                                                             @RequestParam(name = "state", defaultValue = "all") String state,
+                                                             @RequestParam(required = false) @Positive Long after,
+                                                             @RequestParam(required = false) @Positive Integer size) {
         BookingState bookingState = BookingState.from(state)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
-        log.info("Get booking with state {}, ownerId={}", state, userId);
-        return bookingClient.findAllByOwnerAndState(userId, bookingState);
+        log.info("Get booking with state {}, ownerId={}, after={}, size={}", state, userId, after, size);
+        return bookingClient.findAllByOwnerAndState(userId, bookingState, after, size);
 
     }
 
@@ -11,6 +11,11 @@ import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
@@ -33,8 +38,44 @@ public class ItemClient extends BaseClient {
         return get("/" + id, userId);
     }
 
-    public ResponseEntity<Object> search(String text, Long userId) {
-        return get("/search?text=" + text, userId);
+    public ResponseEntity<Object> findAvailability(Long id, LocalDate from, LocalDate to, Long userId) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        if (from != null) {
+            parameters.put("from", from);
+            query.add("from={from}");
+        }
+        if (to != null) {
+            parameters.put("to", to);
+            query.add("to={to}");
+        }
+        return get("/" + id + "/availability" + query, userId, parameters);
+    }
+
+    public ResponseEntity<Object> search(String text, Integer from, Integer size, Long userId) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        StringBuilder query = new StringBuilder("/search?text={text}");
+        if (from != null) {
+            parameters.put("from", from);
+            query.append("&from={from}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.append("&size={size}");
+        }
+        return get(query.toString(), userId, parameters);
+    }
+
+    public ResponseEntity<Object> suggest(String prefix, Integer size, Long userId) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("prefix", prefix);
+        StringBuilder query = new StringBuilder("/search/suggest?prefix={prefix}");
+        if (size != null) {
+            parameters.put("size", size);
+            query.append("&size={size}");
+        }
+        return get(query.toString(), userId, parameters);
     }
 
     public ResponseEntity<Object> createItem(ItemDto item, Long userId) {
@@ -1,18 +1,26 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDate;
+
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/items")
 @Slf4j
+@Validated
 public class ItemController {
     private final ItemClient itemClient;
 
@@ -29,12 +37,31 @@ public class ItemController {
         return itemClient.findById(id, userId);
     }
 
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<Object> findAvailability(@PathVariable Long id,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                            @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Get availability of item with id = {} from = {} to = {},userId = {}", id, from, to, userId);
+        return itemClient.findAvailability(id, from, to, userId);
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<Object> suggest(@RequestParam String prefix,
+                                @RequestParam(required = false) @Positive @Max(10) Integer size,
+                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Suggest item names by prefix = {}, size = {},userId = {}", prefix, size, userId);
+        return itemClient.suggest(prefix, size, userId);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Object> search(@RequestParam String text,
+                                @RequestParam(required = false) @PositiveOrZero Integer from,
+                                @RequestParam(required = false) @Positive @Max(100) Integer size,
                                 @RequestHeader("X-Sharer-User-Id") Long userId) {
 
-        log.info("Search for items by text = {},userId = {}", text, userId);
-        return itemClient.search(text, userId);
+        log.info("Search for items by text = {}, from = {}, size = {},userId = {}", text, from, size, userId);
+        return itemClient.search(text, from, size, userId);
     }
 
     @PostMapping
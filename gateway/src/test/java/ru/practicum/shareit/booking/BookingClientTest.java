@@ -76,7 +76,7 @@ class BookingClientTest {
                 eq(Map.of("state", state.name()))
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> actualResponse = bookingClient.findAllByBookerAndState(userId, state);
+        ResponseEntity<Object> actualResponse = bookingClient.findAllByBookerAndState(userId, state, null, null);
 
         assertEquals(expectedResponse, actualResponse);
     }
@@ -96,7 +96,27 @@ class BookingClientTest {
                 eq(Map.of("state", state.name()))
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> actualResponse = bookingClient.findAllByOwnerAndState(userId, state);
+        ResponseEntity<Object> actualResponse = bookingClient.findAllByOwnerAndState(userId, state, null, null);
+
+        assertEquals(expectedResponse, actualResponse);
+    }
+
+    @Test
+    void findAllByOwnerAndStateShouldPassCursorAndSize() {
+        Long userId = 1L;
+        BookingState state = BookingState.PAST;
+        String expectedUrl = "/owner?state={state}&after={after}&size={size}";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(HttpMethod.GET),
+                argThat(entity -> checkHeaders(entity, userId)),
+                eq(Object.class),
+                eq(Map.of("state", state.name(), "after", 5L, "size", 10))
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = bookingClient.findAllByOwnerAndState(userId, state, 5L, 10);
 
         assertEquals(expectedResponse, actualResponse);
     }
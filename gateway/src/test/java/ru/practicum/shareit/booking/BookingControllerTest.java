@@ -14,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.booking.dto.BookingInDto;
+import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.time.LocalDateTime;
 
@@ -78,6 +79,19 @@ class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void findAllByItemOwnerAndStateWithCursorShouldPassPageToClient() throws Exception {
+        when(bookingClient.findAllByOwnerAndState(1L, BookingState.FUTURE, 5L, 10))
+                .thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "future")
+                        .param("after", "5")
+                        .param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void findAllByItemOwnerAndStateWithoutUserIdHeaderShouldReturnBadRequest() throws Exception {
         mockMvc.perform(get("/bookings/owner")
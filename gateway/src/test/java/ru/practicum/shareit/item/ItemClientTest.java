@@ -12,6 +12,8 @@ import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDate;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,17 +90,56 @@ class ItemClientTest {
     void searchShouldCallGetWithCorrectUrl() {
         String searchText = "test";
         Long userId = 1L;
-        String expectedUrl = "/search?text=" + searchText;
+        String expectedUrl = "/search?text={text}";
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
 
         when(restTemplate.exchange(
                 eq(expectedUrl),
                 eq(HttpMethod.GET),
                 argThat(entity -> checkHeaders(entity, userId)),
-                eq(Object.class)
+                eq(Object.class),
+                eq(Map.of("text", searchText))
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemClient.search(searchText, null, null, userId);
+
+        assertEquals(expectedResponse, actualResponse);
+    }
+
+    @Test
+    void searchShouldPassPageParameters() {
+        Long userId = 1L;
+        String expectedUrl = "/search?text={text}&from={from}&size={size}";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(HttpMethod.GET),
+                argThat(entity -> checkHeaders(entity, userId)),
+                eq(Object.class),
+                eq(Map.of("text", "дрель & пила", "from", 20, "size", 10))
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> actualResponse = itemClient.search(searchText, userId);
+        ResponseEntity<Object> actualResponse = itemClient.search("дрель & пила", 20, 10, userId);
+
+        assertEquals(expectedResponse, actualResponse);
+    }
+
+    @Test
+    void suggestShouldPassPrefixAndSize() {
+        Long userId = 1L;
+        String expectedUrl = "/search/suggest?prefix={prefix}&size={size}";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(HttpMethod.GET),
+                argThat(entity -> checkHeaders(entity, userId)),
+                eq(Object.class),
+                eq(Map.of("prefix", "дре", "size", 5))
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemClient.suggest("дре", 5, userId);
 
         assertEquals(expectedResponse, actualResponse);
     }
@@ -168,6 +209,48 @@ class ItemClientTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void findAvailabilityShouldPassPeriod() {
+        Long itemId = 1L;
+        Long userId = 1L;
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 3, 31);
+        String expectedUrl = "/" + itemId + "/availability?from={from}&to={to}";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(HttpMethod.GET),
+                argThat(entity -> checkHeaders(entity, userId)),
+                eq(Object.class),
+                eq(Map.of("from", from, "to", to))
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemClient.findAvailability(itemId, from, to, userId);
+
+        assertEquals(expectedResponse, actualResponse);
+    }
+
+    @Test
+    void findAvailabilityWithoutPeriodShouldCallPlainUrl() {
+        Long itemId = 1L;
+        Long userId = 1L;
+        String expectedUrl = "/" + itemId + "/availability";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(HttpMethod.GET),
+                argThat(entity -> checkHeaders(entity, userId)),
+                eq(Object.class),
+                eq(Map.of())
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemClient.findAvailability(itemId, null, null, userId);
+
+        assertEquals(expectedResponse, actualResponse);
+    }
+
     @Test
     void shouldHandleErrorResponse() {
         Long itemId = 1L;
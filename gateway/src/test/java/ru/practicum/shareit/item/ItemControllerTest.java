@@ -13,7 +13,10 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDate;
+
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +53,25 @@ class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void findAvailabilityShouldPassPeriodToClient() throws Exception {
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01")
+                        .param("to", "2030-03-31")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+
+        verify(itemClient).findAvailability(1L, LocalDate.of(2030, 1, 1), LocalDate.of(2030, 3, 31), 1L);
+    }
+
+    @Test
+    void findAvailabilityWithMalformedDateShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "01.01.2030")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void searchShouldReturnOk() throws Exception {
         mockMvc.perform(get("/items/search")
@@ -58,6 +80,28 @@ class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void suggestShouldPassPrefixToClient() throws Exception {
+        mockMvc.perform(get("/items/search/suggest")
+                        .param("prefix", "дре")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+
+        verify(itemClient).suggest("дре", null, 1L);
+    }
+
+    @Test
+    void searchShouldPassPageParametersToClient() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "searchText")
+                        .param("from", "20")
+                        .param("size", "10")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+
+        verify(itemClient).search("searchText", 20, 10, 1L);
+    }
+
     @Test
     void createWithValidItemShouldReturnOk() throws Exception {
         ItemDto itemDto = new ItemDto();
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import ru.practicum.shareit.core.user.resolver.SharerUserArgumentResolver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<Long, Instant> lastWrites;
+
+    public ReadYourWritesInterceptor(Duration maxLag) {
+        lastWrites = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(maxLag)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = userId(request);
+        if (userId != null) {
+            ReplicaRoutingContext.setLastWrite(lastWrites.getIfPresent(userId));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingContext.clear();
+        Long userId = userId(request);
+        if (userId != null && !SAFE_METHODS.contains(request.getMethod())) {
+            lastWrites.put(userId, Instant.now());
+        }
+    }
+
+    private Long userId(HttpServletRequest request) {
+        String header = request.getHeader(SharerUserArgumentResolver.USER_HEADER);
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(header.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
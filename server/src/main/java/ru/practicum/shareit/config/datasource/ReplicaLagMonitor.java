@@ -0,0 +1,57 @@
+package ru.practicum.shareit.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String PRIMARY_LSN_QUERY = "select cast(pg_current_wal_lsn() as text)";
+    private static final String LAG_QUERY = "select case " +
+            "when not pg_is_in_recovery() or pg_last_wal_replay_lsn() >= cast(? as pg_lsn) then 0 " +
+            "else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(routingDataSource.getPrimary());
+        this.replicas = HashMap.newHashMap(routingDataSource.getReplicas().size());
+        routingDataSource.getReplicas().forEach((name, dataSource) -> replicas.put(name, new JdbcTemplate(dataSource)));
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.datasource.routing.lag-check-interval-ms:1000}")
+    public void refresh() {
+        Instant measuredAt = Instant.now();
+        String primaryLsn = primaryLsn();
+        replicas.forEach((name, jdbcTemplate) -> routingDataSource.updateLag(name,
+                primaryLsn == null ? null : measure(name, jdbcTemplate, primaryLsn), measuredAt));
+    }
+
+    private String primaryLsn() {
+        try {
+            return primary.queryForObject(PRIMARY_LSN_QUERY, String.class);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось получить позицию WAL основной базы: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Duration measure(String name, JdbcTemplate jdbcTemplate, String primaryLsn) {
+        try {
+            Double seconds = jdbcTemplate.queryForObject(LAG_QUERY, Double.class, primaryLsn);
+            return seconds == null ? null : Duration.ofMillis(Math.round(seconds * 1000));
+        } catch (DataAccessException e) {
+            log.warn("Реплика {} недоступна: {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.config.datasource;
+
+import java.time.Instant;
+
+public class ReplicaRoutingContext {
+    private static final ThreadLocal<Instant> LAST_WRITE = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+
+    }
+
+    public static Instant getLastWrite() {
+        return LAST_WRITE.get();
+    }
+
+    public static void setLastWrite(Instant lastWrite) {
+        if (lastWrite == null) {
+            LAST_WRITE.remove();
+        } else {
+            LAST_WRITE.set(lastWrite);
+        }
+    }
+
+    public static void clear() {
+        LAST_WRITE.remove();
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.config.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, ReplicaLag> lags = new ConcurrentHashMap<>();
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = HashMap.newHashMap(replicas.size() + 1);
+        targets.putAll(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void updateLag(String replica, Duration lag, Instant measuredAt) {
+        if (lag == null) {
+            lags.remove(replica);
+        } else {
+            lags.put(replica, new ReplicaLag(lag, measuredAt));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Instant now = Instant.now();
+        Instant lastWrite = ReplicaRoutingContext.getLastWrite();
+        List<String> candidates = replicas.keySet().stream()
+                .filter(replica -> isFresh(lags.get(replica), now, lastWrite))
+                .toList();
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    private boolean isFresh(ReplicaLag lag, Instant now, Instant lastWrite) {
+        if (lag == null) {
+            return false;
+        }
+        Instant replicatedUntil = lag.measuredAt().minus(lag.lag());
+        if (replicatedUntil.plus(maxLag).isBefore(now)) {
+            return false;
+        }
+        return lastWrite == null || replicatedUntil.isAfter(lastWrite);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private record ReplicaLag(Duration lag, Instant measuredAt) {
+    }
+}
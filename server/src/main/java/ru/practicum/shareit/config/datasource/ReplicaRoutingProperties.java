@@ -0,0 +1,16 @@
+package ru.practicum.shareit.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.datasource.routing")
+public class ReplicaRoutingProperties {
+    private boolean enabled;
+    private long maxLagSeconds = 10;
+    private List<DataSourceProperties> replicas = new ArrayList<>();
+}
@@ -38,15 +38,19 @@ public class BookingController {
 
     @GetMapping
     public List<BookingOutDto> findAllByBookerAndState(@RequestParam(required = false, defaultValue = "ALL") BookingState state,
-                                               @RequestHeader("X-Sharer-User-Id") Long userId) {
+                                                       @RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestHeader("X-Sharer-User-Id") Long userId) {
         userService.findById(userId);
-        return bookingService.findAllByBookerAndState(state, userId);
+        return bookingService.findAllByBookerAndState(state, userId, after, size);
     }
 
     @GetMapping("/owner")
     public List<BookingOutDto> findAllByOwnerAndState(@RequestParam(required = false, defaultValue = "ALL") BookingState state,
+                                                      @RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer size,
                                                       @RequestHeader("X-Sharer-User-Id") Long userId) {
         userService.findById(userId);
-        return bookingService.findAllByOwnerAndState(state, userId);
+        return bookingService.findAllByOwnerAndState(state, userId, after, size);
     }
 }
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.core.booking;
+
+public enum BookingEventType {
+    CREATED,
+    APPROVED,
+    REJECTED
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.core.booking;
+
+public enum BookingRole {
+    BOOKER,
+    OWNER
+}
@@ -12,7 +12,7 @@ public interface BookingService {
 
     BookingOutDto findById(Long bookingId, Long userId);
 
-    List<BookingOutDto> findAllByBookerAndState(BookingState state, Long userId);
+    List<BookingOutDto> findAllByBookerAndState(BookingState state, Long userId, Long after, Integer size);
 
-    List<BookingOutDto> findAllByOwnerAndState(BookingState state, Long userId);
+    List<BookingOutDto> findAllByOwnerAndState(BookingState state, Long userId, Long after, Integer size);
 }
@@ -1,46 +1,68 @@
 package ru.practicum.shareit.core.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.core.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingInDto;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingDtoMapper;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingEventMapper;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingCursor;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingEventRepository;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingQuery;
 import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
+    private final BookingEventRepository bookingEventRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final OwnerItemSummaryUpdater ownerItemSummaryUpdater;
     private static final String NOT_FOUND_BOOKING = "Бронирование не найдено";
     private static final String NOT_FOUND_ITEM = "Предмет не найден";
-    private static final String NOT_FOUND_USER = "Пользователь не найден";
+    private static final String ALREADY_BOOKED = "Предмет уже забронирован на это время.";
+    private static final String OVERLAP_CONSTRAINT = "ex_bookings_item_period";
+    private static final String EXCLUSION_VIOLATION = "23P01";
 
     @Override
+    @Transactional
     public BookingOutDto create(BookingInDto bookingDto, Long userId) {
         Item item = itemRepository.findById(bookingDto.getItemId()).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM));
-        User booker = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+        User booker = UserDtoMapper.toUser(userService.findById(userId));
 
         Booking booking = BookingDtoMapper.toBooking(bookingDto, item, booker);
         validate(booking);
-        booking = bookingRepository.saveAndFlush(booking);
+        booking = save(booking);
+        bookingEventRepository.save(BookingEventMapper.toBookingEvent(booking, BookingEventType.CREATED));
+        bookingIntervalIndex.update(booking);
+        ownerItemSummaryUpdater.expire(booking.getItem().getId());
 
         return BookingDtoMapper.toBookingDto(booking);
     }
 
     @Override
+    @Transactional
     public BookingOutDto updateStatus(Long bookingId, Long userId, Boolean approved) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKING));
@@ -48,12 +70,17 @@ public class BookingServiceImpl implements BookingService {
             throw new ConditionsNotMetException("Только владелец предмета может менять статус бронирования.");
         }
         booking.setStatus(Boolean.TRUE.equals(approved) ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        return BookingDtoMapper.toBookingDto(bookingRepository.saveAndFlush(booking));
+        save(booking);
+        bookingEventRepository.save(BookingEventMapper.toBookingEvent(booking,
+                Boolean.TRUE.equals(approved) ? BookingEventType.APPROVED : BookingEventType.REJECTED));
+        bookingIntervalIndex.update(booking);
+        ownerItemSummaryUpdater.expire(booking.getItem().getId());
+        return BookingDtoMapper.toBookingDto(booking);
     }
 
     @Override
     public BookingOutDto findById(Long bookingId, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+        UserDto user = userService.findById(userId);
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKING));
         if (!booking.getBooker().getId().equals(user.getId()) &&
             !booking.getItem().getOwner().getId().equals(user.getId())) {
@@ -63,42 +90,65 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingOutDto> findAllByBookerAndState(BookingState state, Long userId) {
-        List<Booking> bookings = switch (state) {
-            case ALL -> bookingRepository.findAllByBookerIdOrderByStartAsc(userId);
-            case WAITING -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
-            case REJECTED ->
-                    bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
-            case PAST -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now());
-            case CURRENT ->
-                    bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, LocalDateTime.now(), LocalDateTime.now());
-            case FUTURE -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now());
-        };
-        return bookings.stream()
-                .map(BookingDtoMapper::toBookingDto)
-                .toList();
+    public List<BookingOutDto> findAllByBookerAndState(BookingState state, Long userId, Long after, Integer size) {
+        return findAll(new BookingQuery(BookingRole.BOOKER, userId, state, LocalDateTime.now()), after, size);
     }
 
     @Override
-    public List<BookingOutDto> findAllByOwnerAndState(BookingState state, Long userId) {
-        List<Booking> bookings = switch (state) {
-            case ALL -> bookingRepository.findAllByItemOwnerIdOrderByStartAsc(userId);
-            case WAITING -> bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
-            case REJECTED ->
-                    bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
-            case PAST -> bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now());
-            case CURRENT -> bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, LocalDateTime.now(), LocalDateTime.now());
-            case FUTURE -> bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now());
-        };
-        return bookings.stream()
+    public List<BookingOutDto> findAllByOwnerAndState(BookingState state, Long userId, Long after, Integer size) {
+        return findAll(new BookingQuery(BookingRole.OWNER, userId, state, LocalDateTime.now()), after, size);
+    }
+
+    private List<BookingOutDto> findAll(BookingQuery query, Long after, Integer size) {
+        Limit limit = limit(size);
+        return bookingRepository.findAllByQuery(query, cursor(after), limit).stream()
                 .map(BookingDtoMapper::toBookingDto)
                 .toList();
     }
 
+    private BookingCursor cursor(Long after) {
+        if (after == null) {
+            return null;
+        }
+        LocalDateTime start = bookingRepository.findStartById(after)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKING));
+        return new BookingCursor(start, after);
+    }
+
+    private Limit limit(Integer size) {
+        if (size == null) {
+            return Limit.unlimited();
+        }
+        if (size <= 0) {
+            throw new ConditionsNotMetException("Размер страницы должен быть положительным.");
+        }
+        return Limit.of(size);
+    }
+
+    private Booking save(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlap(e)) {
+                throw new ConditionsNotMetException(ALREADY_BOOKED);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isOverlap(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation)) {
+            return false;
+        }
+        return OVERLAP_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())
+                || EXCLUSION_VIOLATION.equals(violation.getSQLState());
+    }
+
     private void validate(Booking booking) {
-        Optional<Booking> bookingOptional = bookingRepository.findByItemIdAndEndIsAfterAndStartIsBefore(booking.getItem().getId(), booking.getStart(), booking.getStart());
-        if (bookingOptional.isPresent()) {
-            throw new ConditionsNotMetException("Предмет уже забронирован на это время.");
+        if (bookingIntervalIndex.isOverlapping(booking.getItem().getId(), booking.getStart(), booking.getEnd())
+                && !bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(
+                        booking.getItem().getId(), BookingStatus.ACTIVE, booking.getEnd(), booking.getStart()).isEmpty()) {
+            throw new ConditionsNotMetException(ALREADY_BOOKED);
         }
         if (booking.getBooker().getId().equals(booking.getItem().getOwner().getId())) {
             throw new ConditionsNotMetException("Владелец предмета не может арендовать его сам.");
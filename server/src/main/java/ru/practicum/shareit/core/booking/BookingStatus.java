@@ -1,8 +1,12 @@
 package ru.practicum.shareit.core.booking;
 
+import java.util.List;
+
 public enum BookingStatus {
     WAITING,
     APPROVED,
     REJECTED,
-    CANCELLED
+    CANCELLED;
+
+    public static final List<BookingStatus> ACTIVE = List.of(WAITING, APPROVED);
 }
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.core.booking.event;
+
+import ru.practicum.shareit.core.booking.BookingEventType;
+
+import java.time.LocalDateTime;
+
+public record BookingChangedEvent(Long eventId, BookingEventType type, Long bookingId, Long itemId, Long bookerId,
+                                  LocalDateTime start, LocalDateTime end, LocalDateTime created) {
+}
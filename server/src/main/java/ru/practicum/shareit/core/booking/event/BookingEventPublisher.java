@@ -0,0 +1,56 @@
+package ru.practicum.shareit.core.booking.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingEventMapper;
+import ru.practicum.shareit.core.booking.persistance.entity.model.BookingEvent;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BookingEventPublisher {
+    private final BookingEventRepository bookingEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Limit batchSize;
+    private final Duration retention;
+
+    public BookingEventPublisher(BookingEventRepository bookingEventRepository,
+                                 ApplicationEventPublisher applicationEventPublisher,
+                                 @Value("${shareit.bookings.events.batch-size:100}") int batchSize,
+                                 @Value("${shareit.bookings.events.retention-hours:168}") long retentionHours) {
+        this.bookingEventRepository = bookingEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = Limit.of(batchSize);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${shareit.bookings.events.poll-interval-ms:1000}")
+    public void publishPending() {
+        List<BookingEvent> pending = bookingEventRepository.findAllByPublishedAtIsNullOrderById(batchSize);
+        for (BookingEvent event : pending) {
+            try {
+                applicationEventPublisher.publishEvent(BookingEventMapper.toBookingChangedEvent(event));
+            } catch (RuntimeException e) {
+                log.warn("Не удалось доставить событие бронирования {}: {}", event.getId(), e.getMessage());
+                break;
+            }
+            event.setPublishedAt(LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${shareit.bookings.events.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        bookingEventRepository.deleteAllPublishedBefore(LocalDateTime.now().minus(retention));
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.core.booking.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.core.booking.BookingStatus;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto;
+import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
+import ru.practicum.shareit.utils.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+    private final BookingRepository bookingRepository;
+    private final Map<Long, BookingIntervalTree> trees = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        trees.clear();
+        List<BookingPeriodDto> periods = bookingRepository.findAllPeriodsByStatusInAndEndAfter(BookingStatus.ACTIVE,
+                LocalDateTime.now());
+        for (BookingPeriodDto period : periods) {
+            tree(period.getItemId()).add(period.getId(), period.getStart(), period.getEnd());
+        }
+    }
+
+    public void update(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        long id = booking.getId();
+        LocalDateTime start = booking.getStart();
+        LocalDateTime end = booking.getEnd();
+        boolean active = BookingStatus.ACTIVE.contains(booking.getStatus());
+        AfterCommit.run(() -> trees.compute(itemId, (key, tree) -> {
+            if (active) {
+                tree = tree == null ? new BookingIntervalTree() : tree;
+                tree.add(id, start, end);
+            } else if (tree != null) {
+                tree.remove(id, start);
+            }
+            return tree == null || tree.size() == 0 ? null : tree;
+        }));
+    }
+
+    @Scheduled(initialDelayString = "${shareit.bookings.index.prune-interval-ms:3600000}",
+            fixedDelayString = "${shareit.bookings.index.prune-interval-ms:3600000}")
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long itemId : trees.keySet()) {
+            trees.computeIfPresent(itemId, (key, tree) -> {
+                tree.removeEndedBefore(now);
+                return tree.size() == 0 ? null : tree;
+            });
+        }
+    }
+
+    public boolean isOverlapping(Long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalTree tree = trees.get(itemId);
+        return tree != null && tree.overlaps(start, end);
+    }
+
+    private BookingIntervalTree tree(Long itemId) {
+        return trees.computeIfAbsent(itemId, id -> new BookingIntervalTree());
+    }
+}
@@ -0,0 +1,185 @@
+package ru.practicum.shareit.core.booking.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class BookingIntervalTree {
+    private static final Comparator<Node> ORDER = Comparator.<Node, LocalDateTime>comparing(node -> node.start)
+            .thenComparingLong(node -> node.id);
+
+    private Node root;
+    private int size;
+
+    public synchronized void add(long id, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(id, start, end));
+    }
+
+    public synchronized void remove(long id, LocalDateTime start) {
+        root = delete(root, new Node(id, start, start));
+    }
+
+    public synchronized void removeEndedBefore(LocalDateTime moment) {
+        List<Node> ended = new ArrayList<>();
+        collectEnded(root, moment, ended);
+        for (Node node : ended) {
+            root = delete(root, node);
+        }
+    }
+
+    public synchronized boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return overlaps(root, from, to);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean overlaps(Node node, LocalDateTime from, LocalDateTime to) {
+        while (node != null && node.maxEnd.isAfter(from)) {
+            if (node.start.isBefore(to) && node.end.isAfter(from)) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd.isAfter(from)) {
+                node = node.left;
+            } else if (node.start.isBefore(to)) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void collectEnded(Node node, LocalDateTime moment, List<Node> ended) {
+        if (node == null) {
+            return;
+        }
+        if (!node.end.isAfter(moment)) {
+            ended.add(node);
+        }
+        collectEnded(node.left, moment, ended);
+        collectEnded(node.right, moment, ended);
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            size++;
+            return added;
+        }
+        int compare = ORDER.compare(added, node);
+        if (compare < 0) {
+            node.left = insert(node.left, added);
+        } else if (compare > 0) {
+            node.right = insert(node.right, added);
+        } else {
+            node.end = added.end;
+        }
+        return balance(node);
+    }
+
+    private Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        int compare = ORDER.compare(removed, node);
+        if (compare < 0) {
+            node.left = delete(node.left, removed);
+        } else if (compare > 0) {
+            node.right = delete(node.right, removed);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.right.maxEnd;
+        }
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node {
+        private final long id;
+        private final LocalDateTime start;
+        private LocalDateTime end;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(long id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
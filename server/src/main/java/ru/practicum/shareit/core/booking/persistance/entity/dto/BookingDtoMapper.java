@@ -3,8 +3,11 @@ package ru.practicum.shareit.core.booking.persistance.entity.dto;
 import ru.practicum.shareit.core.booking.BookingStatus;
 import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDtoMapper;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 
 public class BookingDtoMapper {
@@ -32,4 +35,39 @@ public class BookingDtoMapper {
                 .item(ItemDtoMapper.toItemDto(booking.getItem()))
                 .build();
     }
+
+    public static BookingOutDto toBookingDto(BookingView booking) {
+        return BookingOutDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .status(booking.getStatus())
+                .booker(UserDto.builder()
+                        .id(booking.getBookerId())
+                        .name(booking.getBookerName())
+                        .email(booking.getBookerEmail())
+                        .build())
+                .item(ItemDto.builder()
+                        .id(booking.getItemId())
+                        .name(booking.getItemName())
+                        .description(booking.getItemDescription())
+                        .available(booking.getItemAvailable())
+                        .build())
+                .build();
+    }
+
+    public static BookingOutDto toBookingDto(BookingShortDto booking, ItemTextDto item) {
+        return BookingOutDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .status(booking.getStatus())
+                .booker(UserDto.builder()
+                        .id(booking.getBookerId())
+                        .name(booking.getBookerName())
+                        .email(booking.getBookerEmail())
+                        .build())
+                .item(ItemDtoMapper.toItemDto(item))
+                .build();
+    }
 }
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.core.booking.persistance.entity.dto;
+
+import ru.practicum.shareit.core.booking.BookingEventType;
+import ru.practicum.shareit.core.booking.event.BookingChangedEvent;
+import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
+import ru.practicum.shareit.core.booking.persistance.entity.model.BookingEvent;
+
+import java.time.LocalDateTime;
+
+public class BookingEventMapper {
+    private BookingEventMapper() {
+
+    }
+
+    public static BookingEvent toBookingEvent(Booking booking, BookingEventType type) {
+        return BookingEvent.builder()
+                .bookingId(booking.getId())
+                .itemId(booking.getItem().getId())
+                .bookerId(booking.getBooker().getId())
+                .type(type)
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .created(LocalDateTime.now())
+                .build();
+    }
+
+    public static BookingChangedEvent toBookingChangedEvent(BookingEvent event) {
+        return new BookingChangedEvent(event.getId(), event.getType(), event.getBookingId(), event.getItemId(),
+                event.getBookerId(), event.getStart(), event.getEnd(), event.getCreated());
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.core.booking.persistance.repository;
+
+import java.time.LocalDateTime;
+
+public record BookingCursor(LocalDateTime start, Long id) {
+}
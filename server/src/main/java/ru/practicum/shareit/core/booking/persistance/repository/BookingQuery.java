@@ -0,0 +1,12 @@
+package ru.practicum.shareit.core.booking.persistance.repository;
+
+import ru.practicum.shareit.core.booking.BookingRole;
+import ru.practicum.shareit.core.booking.BookingState;
+
+import java.time.LocalDateTime;
+
+public record BookingQuery(BookingRole role, Long userId, BookingState state, LocalDateTime now) {
+    public boolean ascending() {
+        return state == BookingState.ALL;
+    }
+}
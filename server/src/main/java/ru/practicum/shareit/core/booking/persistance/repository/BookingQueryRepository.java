@@ -0,0 +1,15 @@
+package ru.practicum.shareit.core.booking.persistance.repository;
+
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingView;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookingQueryRepository {
+    List<BookingView> findAllByQuery(BookingQuery query, BookingCursor after, Limit limit);
+
+    Stream<BookingView> streamAllByQuery(BookingQuery query);
+
+    long countByQuery(BookingQuery query);
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.core.booking.persistance.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingView;
+import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.user.persistance.entity.model.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findAllByQuery(BookingQuery query, BookingCursor after, Limit limit) {
+        TypedQuery<BookingView> typedQuery = entityManager.createQuery(select(query, after));
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<BookingView> streamAllByQuery(BookingQuery query) {
+        return entityManager.createQuery(select(query, null)).getResultStream();
+    }
+
+    @Override
+    public long countByQuery(BookingQuery query) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = builder.createQuery(Long.class);
+        Root<Booking> root = criteriaQuery.from(Booking.class);
+        Predicate predicate = BookingSpecifications.of(query).toPredicate(root, criteriaQuery, builder);
+        criteriaQuery.select(builder.count(root));
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    private CriteriaQuery<BookingView> select(BookingQuery query, BookingCursor after) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingView> criteriaQuery = builder.createQuery(BookingView.class);
+        Root<Booking> root = criteriaQuery.from(Booking.class);
+
+        Specification<Booking> specification = BookingSpecifications.of(query);
+        if (after != null) {
+            specification = specification.and(BookingSpecifications.after(after, query.ascending()));
+        }
+        Predicate predicate = specification.toPredicate(root, criteriaQuery, builder);
+        Join<Booking, Item> item = BookingSpecifications.item(root);
+        Join<Booking, User> booker = root.join("booker");
+
+        criteriaQuery.select(builder.construct(BookingView.class,
+                root.get("id"), root.get("start"), root.get("end"), root.get("status"),
+                item.get("id"), item.get("name"), item.get("description"), item.get("available"),
+                booker.get("id"), booker.get("name"), booker.get("email")));
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+        if (query.ascending()) {
+            criteriaQuery.orderBy(builder.asc(root.get("start")), builder.asc(root.get("id")));
+        } else {
+            criteriaQuery.orderBy(builder.desc(root.get("start")), builder.desc(root.get("id")));
+        }
+        return criteriaQuery;
+    }
+}
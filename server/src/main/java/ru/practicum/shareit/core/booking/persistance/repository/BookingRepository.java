@@ -1,8 +1,12 @@
 package ru.practicum.shareit.core.booking.persistance.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.core.booking.BookingStatus;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
 import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 
 import java.time.LocalDateTime;
@@ -10,31 +14,34 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByBookerIdOrderByStartAsc(Long userId);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(Long id);
 
-    List<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long userId, BookingStatus bookingStatus);
+    @Query("select b.start from Booking b where b.id = ?1")
+    Optional<LocalDateTime> findStartById(Long id);
 
-    List<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime now);
+    @Query("select new ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto(" +
+            "b.id, b.item.id, b.start, b.end) from Booking b where b.status in ?1 and b.end > ?2")
+    List<BookingPeriodDto> findAllPeriodsByStatusInAndEndAfter(List<BookingStatus> statuses, LocalDateTime now);
 
-    List<Booking> findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime now, LocalDateTime now1);
-
-    List<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime now);
-
-    List<Booking> findAllByItemOwnerIdOrderByStartAsc(Long userId);
-
-    List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(Long userId, BookingStatus bookingStatus);
-
-    List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime now);
-
-    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime now, LocalDateTime now1);
-
-    List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime now);
-
-    Optional<Booking> findByItemIdAndEndIsAfterAndStartIsBefore(Long id, LocalDateTime end, LocalDateTime start);
+    @Query("select new ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto(" +
+            "b.id, b.item.id, b.start, b.end) from Booking b " +
+            "where b.item.id = ?1 and b.status in ?2 and b.start < ?3 and b.end > ?4")
+    List<BookingPeriodDto> findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(Long itemId,
+            List<BookingStatus> statuses, LocalDateTime end, LocalDateTime start);
 
     Optional<Booking> findByItemIdAndBookerIdAndEndBefore(Long itemId, Long userId, LocalDateTime now);
 
-    List<Booking> findAllByItemIdOrderByStartAsc(Long itemId);
+    @Query("select new ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto(" +
+            "b.id, b.item.id, b.start, b.end, b.status, booker.id, booker.name, booker.email) " +
+            "from Booking b join b.booker booker " +
+            "where b.item.id in ?1 and (" +
+            "(b.start < ?2 and b.end > ?2 and b.start = (select max(last.start) from Booking last " +
+            "where last.item.id = b.item.id and last.start < ?2 and last.end > ?2)) " +
+            "or (b.start > ?2 and b.start = (select min(next.start) from Booking next " +
+            "where next.item.id = b.item.id and next.start > ?2)))")
+    List<BookingShortDto> findLastAndNextByItemIdIn(List<Long> itemIds, LocalDateTime now);
 }
 
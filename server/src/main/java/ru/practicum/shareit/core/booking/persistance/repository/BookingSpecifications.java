@@ -0,0 +1,67 @@
+package ru.practicum.shareit.core.booking.persistance.repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.core.booking.BookingRole;
+import ru.practicum.shareit.core.booking.BookingState;
+import ru.practicum.shareit.core.booking.BookingStatus;
+import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+
+import java.time.LocalDateTime;
+
+public class BookingSpecifications {
+    private BookingSpecifications() {
+
+    }
+
+    public static Specification<Booking> of(BookingQuery query) {
+        return byRole(query.role(), query.userId()).and(byState(query.state(), query.now()));
+    }
+
+    public static Specification<Booking> byRole(BookingRole role, Long userId) {
+        return (root, criteriaQuery, builder) -> switch (role) {
+            case BOOKER -> builder.equal(root.get("booker").get("id"), userId);
+            case OWNER -> builder.equal(item(root).get("owner").get("id"), userId);
+        };
+    }
+
+    public static Specification<Booking> byState(BookingState state, LocalDateTime now) {
+        return (root, criteriaQuery, builder) -> {
+            Path<LocalDateTime> start = root.get("start");
+            Path<LocalDateTime> end = root.get("end");
+            return switch (state) {
+                case ALL -> null;
+                case WAITING -> builder.equal(root.get("status"), BookingStatus.WAITING);
+                case REJECTED -> builder.equal(root.get("status"), BookingStatus.REJECTED);
+                case PAST -> builder.lessThan(end, now);
+                case CURRENT -> builder.and(builder.lessThan(start, now), builder.greaterThan(end, now));
+                case FUTURE -> builder.greaterThan(start, now);
+            };
+        };
+    }
+
+    public static Specification<Booking> after(BookingCursor cursor, boolean ascending) {
+        return (root, criteriaQuery, builder) -> {
+            Path<LocalDateTime> start = root.get("start");
+            Path<Long> id = root.get("id");
+            if (ascending) {
+                return builder.or(builder.greaterThan(start, cursor.start()),
+                        builder.and(builder.equal(start, cursor.start()), builder.greaterThan(id, cursor.id())));
+            }
+            return builder.or(builder.lessThan(start, cursor.start()),
+                    builder.and(builder.equal(start, cursor.start()), builder.lessThan(id, cursor.id())));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Join<Booking, Item> item(Root<Booking> root) {
+        return root.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals("item"))
+                .map(join -> (Join<Booking, Item>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("item"));
+    }
+}
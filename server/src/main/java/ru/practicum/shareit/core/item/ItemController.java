@@ -1,12 +1,16 @@
 package ru.practicum.shareit.core.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
-import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.core.user.resolver.SharerUser;
 
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -15,48 +19,61 @@ import java.util.List;
 @RequestMapping("/items")
 public class ItemController {
     private final ItemService itemService;
-    private final UserService userService;
 
     @GetMapping
-    public List<ItemDto> findAllOwned(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        userService.findById(userId);
-        return itemService.findAllOwned(userId);
+    public List<ItemDto> findAllOwned(@SharerUser UserDto user) {
+        return itemService.findAllOwned(user.getId());
     }
 
     @GetMapping("/{id}")
     public ItemDto findById(@PathVariable Long id,
-                            @RequestHeader("X-Sharer-User-Id") Long userId) {
-        userService.findById(userId);
+                            @SharerUser UserDto user) {
         return itemService.findById(id);
     }
 
+    @GetMapping("/{id}/availability")
+    public ItemAvailabilityDto findAvailability(@PathVariable Long id,
+                                                @RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                @SharerUser UserDto user) {
+        return itemService.findAvailability(id, from, to);
+    }
+
+    @GetMapping("/search/suggest")
+    public List<String> suggest(@RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") Integer size,
+                                @SharerUser UserDto user) {
+        return itemService.suggest(prefix, size);
+    }
+
     @GetMapping("/search")
     public List<ItemDto> search(@RequestParam String text,
-                                @RequestHeader("X-Sharer-User-Id") Long userId) {
-        userService.findById(userId);
-        return itemService.search(text);
+                                @RequestParam(defaultValue = "0") Integer from,
+                                @RequestParam(defaultValue = "20") Integer size,
+                                @SharerUser UserDto user) {
+        return itemService.search(text, from, size);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ItemDto create(@RequestBody ItemDto item,
-                          @RequestHeader("X-Sharer-User-Id") Long userId) {
-        return itemService.create(item, userId);
+                          @SharerUser UserDto user) {
+        return itemService.create(item, user);
     }
 
     @PatchMapping("/{id}")
     public ItemDto update(@PathVariable Long id,
                           @RequestBody ItemDto item,
-                          @RequestHeader("X-Sharer-User-Id") Long userId) {
-        userService.findById(userId);
-        return itemService.update(id, item, userId);
+                          @SharerUser UserDto user) {
+        return itemService.update(id, item, user.getId());
     }
 
     @PostMapping("/{itemId}/comment")
     public CommentDto createComment(@PathVariable Long itemId, @RequestBody CommentDto commentDto,
-                                    @RequestHeader("X-Sharer-User-Id") Long userId) {
-        userService.findById(userId);
-        return itemService.createComment(itemId, commentDto, userId);
+                                    @SharerUser UserDto user) {
+        return itemService.createComment(itemId, commentDto, user);
     }
 
 }
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.core.item;
 
 import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ItemService {
@@ -10,11 +13,15 @@ public interface ItemService {
 
     ItemDto findById(Long itemId);
 
-    ItemDto create(ItemDto itemDto, Long userId);
+    ItemAvailabilityDto findAvailability(Long itemId, LocalDate from, LocalDate to);
+
+    ItemDto create(ItemDto itemDto, UserDto owner);
 
     ItemDto update(Long id, ItemDto itemDto, Long userId);
 
-    List<ItemDto> search(String text);
+    List<ItemDto> search(String text, Integer from, Integer size);
+
+    List<String> suggest(String prefix, Integer size);
 
-    CommentDto createComment(Long itemId, CommentDto commentDto, Long userId);
+    CommentDto createComment(Long itemId, CommentDto commentDto, UserDto author);
 }
@@ -1,70 +1,137 @@
 package ru.practicum.shareit.core.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.core.booking.BookingStatus;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
 import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
+import ru.practicum.shareit.core.item.availability.DayBitmap;
 import ru.practicum.shareit.core.item.persistance.entity.dto.*;
 import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
 import ru.practicum.shareit.core.item.persistance.repository.CommentRepository;
+import ru.practicum.shareit.core.item.persistance.repository.OwnerItemSummaryRepository;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.search.ItemNameSuggester;
+import ru.practicum.shareit.core.item.search.ItemSearchCache;
+import ru.practicum.shareit.core.item.search.ItemSearchEngine;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
+import ru.practicum.shareit.utils.OffsetPageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
     private final ItemRequestRepository itemRequestRepository;
 
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemSearchCache itemSearchCache;
+    private final ItemNameSuggester itemNameSuggester;
+    private final OwnerItemSummaryRepository ownerItemSummaryRepository;
+    private final OwnerItemSummaryUpdater ownerItemSummaryUpdater;
 
     private static final String NOT_FOUND_ITEM = "Предмет не найден";
-    private static final String NOT_FOUND_USER = "Пользователь не найден";
+    private static final int AVAILABILITY_DEFAULT_DAYS = 90;
+    private static final int AVAILABILITY_MAX_DAYS = 366;
+    private static final int SEARCH_MAX_SIZE = 100;
 
     @Override
     public List<ItemDto> findAllOwned(Long ownerId) {
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdOrderByStartAsc(ownerId);
-        List<Item> items = itemRepository.findAllByOwnerId(ownerId);
-        List<Comment> comments = commentRepository.findAllByItemIdIn(items.stream().map(Item::getId).toList());
-        return items.stream()
-                .map(item -> ItemDtoMapper.toItemDto(item, bookings, comments))
+        LocalDateTime now = LocalDateTime.now();
+        List<OwnerItemSummary> summaries = ownerItemSummaryRepository.findAllByOwnerIdOrderByItemId(ownerId);
+        List<Long> expiredIds = summaries.stream()
+                .filter(summary -> !summary.isValidAt(now))
+                .map(OwnerItemSummary::getItemId)
+                .toList();
+        if (!expiredIds.isEmpty()) {
+            Map<Long, OwnerItemSummary> refreshed = ownerItemSummaryUpdater.refreshAll(expiredIds).stream()
+                    .collect(Collectors.toMap(OwnerItemSummary::getItemId, Function.identity()));
+            summaries = summaries.stream()
+                    .map(summary -> refreshed.getOrDefault(summary.getItemId(), summary))
+                    .toList();
+        }
+        return summaries.stream()
+                .map(ItemDtoMapper::toItemDto)
                 .toList();
     }
 
     @Override
     public ItemDto findById(Long itemId) {
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM));
+        LocalDateTime now = LocalDateTime.now();
         List<Comment> comments = commentRepository.findAllByItemId(itemId);
-        List<Booking> bookings = bookingRepository.findAllByItemIdOrderByStartAsc(itemId);
-        ItemDto itemDto = ItemDtoMapper.toItemDto(item, bookings, comments);
-        itemDto.setComments(comments.stream().map(CommentDtoMapper::toCommentDto).toList());
-        return itemDto;
+        List<BookingShortDto> bookings = bookingRepository.findLastAndNextByItemIdIn(List.of(itemId), now);
+        return new ItemDetailsResolver(bookings, comments, now).toItemDto(ItemDtoMapper.toItemTextDto(item));
+    }
+
+    @Override
+    public ItemAvailabilityDto findAvailability(Long itemId, LocalDate from, LocalDate to) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException(NOT_FOUND_ITEM);
+        }
+        LocalDate start = from == null ? LocalDate.now() : from;
+        LocalDate end = to == null ? start.plusDays(AVAILABILITY_DEFAULT_DAYS - 1) : to;
+        if (end.isBefore(start)) {
+            throw new ConditionsNotMetException("Дата окончания периода должна быть не раньше даты начала.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= AVAILABILITY_MAX_DAYS) {
+            throw new ConditionsNotMetException("Период не может превышать " + AVAILABILITY_MAX_DAYS + " дней.");
+        }
+        DayBitmap bitmap = new DayBitmap(start, end);
+        bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(itemId, BookingStatus.ACTIVE,
+                        end.plusDays(1).atStartOfDay(), start.atStartOfDay())
+                .forEach(period -> bitmap.mark(period.getStart().toLocalDate(),
+                        period.getEnd().minusNanos(1).toLocalDate()));
+        return ItemAvailabilityDto.builder()
+                .itemId(itemId)
+                .from(start)
+                .to(end)
+                .freePeriods(bitmap.freePeriods())
+                .build();
     }
 
     @Override
-    public ItemDto create(ItemDto itemDto, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+    @Transactional
+    public ItemDto create(ItemDto itemDto, UserDto owner) {
+        User user = UserDtoMapper.toUser(owner);
         Item item = ItemDtoMapper.toItem(itemDto, user);
         if (itemDto.getRequestId() != null) {
             ItemRequest request = itemRequestRepository.findById(itemDto.getRequestId()).orElseThrow(() -> new NotFoundException("Запрос не найден"));
             item.setRequest(request);
         }
-        return ItemDtoMapper.toItemDto(itemRepository.saveAndFlush(item));
+        item = itemRepository.saveAndFlush(item);
+        ownerItemSummaryUpdater.refresh(item);
+        ItemTextDto after = ItemDtoMapper.toItemTextDto(item);
+        itemSearchEngine.index(item);
+        itemSearchCache.evict(null, after);
+        itemNameSuggester.update(null, after);
+        return ItemDtoMapper.toItemDto(item);
     }
 
     @Override
+    @Transactional
     public ItemDto update(Long id, ItemDto itemDto, Long userId) {
         Optional<Item> itemOptional = itemRepository.findById(id);
         Item item = itemOptional.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM));
@@ -72,6 +139,7 @@ public class ItemServiceImpl implements ItemService {
         if (!item.getOwner().getId().equals(userId)) {
             throw new ConditionsNotMetException("Пользователь не владелец предмета");
         }
+        ItemTextDto before = ItemDtoMapper.toItemTextDto(item);
 
         if (itemDto.getName() != null) {
             item.setName(itemDto.getName());
@@ -83,28 +151,56 @@ public class ItemServiceImpl implements ItemService {
             item.setAvailable(itemDto.getAvailable());
         }
 
-        return ItemDtoMapper.toItemDto(itemRepository.saveAndFlush(item));
+        item = itemRepository.saveAndFlush(item);
+        ownerItemSummaryUpdater.refresh(item);
+        ItemTextDto after = ItemDtoMapper.toItemTextDto(item);
+        itemSearchEngine.index(item);
+        itemSearchCache.evict(before, after);
+        itemNameSuggester.update(before, after);
+        return ItemDtoMapper.toItemDto(item);
     }
 
     @Override
-    public List<ItemDto> search(String text) {
+    public List<ItemDto> search(String text, Integer from, Integer size) {
+        if (from < 0) {
+            throw new ConditionsNotMetException("Индекс первого элемента не может быть отрицательным.");
+        }
+        if (size <= 0 || size > SEARCH_MAX_SIZE) {
+            throw new ConditionsNotMetException("Размер страницы должен быть от 1 до " + SEARCH_MAX_SIZE + ".");
+        }
         if (text == null || text.isBlank()) {
             return List.of();
         }
-        return itemRepository.findAllBySearch(text).stream()
+        Pageable page = OffsetPageRequest.of(from, size);
+        return itemSearchCache.get(text, page, normalized -> itemSearchEngine.search(normalized, page).stream()
                 .map(ItemDtoMapper::toItemDto)
-                .toList();
+                .toList());
+    }
+
+    @Override
+    public List<String> suggest(String prefix, Integer size) {
+        if (size <= 0 || size > ItemNameSuggester.MAX_SUGGESTIONS) {
+            throw new ConditionsNotMetException("Количество подсказок должно быть от 1 до "
+                    + ItemNameSuggester.MAX_SUGGESTIONS + ".");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return itemNameSuggester.suggest(prefix, size);
     }
 
     @Override
-    public CommentDto createComment(Long itemId, CommentDto commentDto, Long userId) {
+    @Transactional
+    public CommentDto createComment(Long itemId, CommentDto commentDto, UserDto author) {
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM));
-        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+        User user = UserDtoMapper.toUser(author);
 
-        bookingRepository.findByItemIdAndBookerIdAndEndBefore(itemId, userId, LocalDateTime.now())
+        bookingRepository.findByItemIdAndBookerIdAndEndBefore(itemId, user.getId(), LocalDateTime.now())
                 .orElseThrow(() -> new ConditionsNotMetException("Пользователь не арендовал предмет или время аренды еще не вышло"));
 
         Comment comment = CommentDtoMapper.toComment(commentDto, item, user);
-        return CommentDtoMapper.toCommentDto(commentRepository.saveAndFlush(comment));
+        CommentDto created = CommentDtoMapper.toCommentDto(commentRepository.saveAndFlush(comment));
+        ownerItemSummaryUpdater.refresh(item);
+        return created;
     }
 }
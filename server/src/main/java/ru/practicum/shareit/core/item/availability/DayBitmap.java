@@ -0,0 +1,84 @@
+package ru.practicum.shareit.core.item.availability;
+
+import ru.practicum.shareit.core.item.persistance.entity.dto.DatePeriodDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DayBitmap {
+    private final LocalDate from;
+    private final int days;
+    private final long[] words;
+
+    public DayBitmap(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        this.words = new long[(days + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    public void mark(LocalDate start, LocalDate end) {
+        int first = (int) Math.max(ChronoUnit.DAYS.between(from, start), 0);
+        int last = (int) Math.min(ChronoUnit.DAYS.between(from, end), days - 1);
+        if (first > last) {
+            return;
+        }
+        int firstWord = first / Long.SIZE;
+        int lastWord = last / Long.SIZE;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (Long.SIZE - 1 - last % Long.SIZE);
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    public boolean isMarked(LocalDate day) {
+        long index = ChronoUnit.DAYS.between(from, day);
+        if (index < 0 || index >= days) {
+            return false;
+        }
+        return (words[(int) index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    public List<DatePeriodDto> freePeriods() {
+        List<DatePeriodDto> periods = new ArrayList<>();
+        int start = nextClear(0);
+        while (start < days) {
+            int end = nextSet(start);
+            periods.add(new DatePeriodDto(from.plusDays(start), from.plusDays(end - 1)));
+            start = nextClear(end);
+        }
+        return periods;
+    }
+
+    private int nextClear(int index) {
+        int word = index / Long.SIZE;
+        if (word >= words.length) {
+            return days;
+        }
+        long free = ~words[word] & (-1L << index);
+        while (free == 0 && ++word < words.length) {
+            free = ~words[word];
+        }
+        return word < words.length ? Math.min(word * Long.SIZE + Long.numberOfTrailingZeros(free), days) : days;
+    }
+
+    private int nextSet(int index) {
+        int word = index / Long.SIZE;
+        if (word >= words.length) {
+            return days;
+        }
+        long busy = words[word] & (-1L << index);
+        while (busy == 0 && ++word < words.length) {
+            busy = words[word];
+        }
+        return word < words.length ? Math.min(word * Long.SIZE + Long.numberOfTrailingZeros(busy), days) : days;
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.core.item.persistance.entity.dto;
+
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ItemDetailsResolver {
+    private final Map<Long, BookingShortDto> lastBookings;
+    private final Map<Long, BookingShortDto> nextBookings;
+    private final Map<Long, List<Comment>> comments;
+
+    public ItemDetailsResolver(List<BookingShortDto> bookings, List<Comment> comments, LocalDateTime now) {
+        this.lastBookings = HashMap.newHashMap(bookings.size());
+        this.nextBookings = HashMap.newHashMap(bookings.size());
+        this.comments = HashMap.newHashMap(comments.size());
+
+        for (BookingShortDto booking : bookings) {
+            if (booking.getStart().isBefore(now) && booking.getEnd().isAfter(now)) {
+                lastBookings.merge(booking.getItemId(), booking,
+                        (current, candidate) -> candidate.getStart().isAfter(current.getStart()) ? candidate : current);
+            } else if (booking.getStart().isAfter(now)) {
+                nextBookings.merge(booking.getItemId(), booking,
+                        (current, candidate) -> candidate.getStart().isBefore(current.getStart()) ? candidate : current);
+            }
+        }
+
+        for (Comment comment : comments) {
+            this.comments.computeIfAbsent(comment.getItem().getId(), id -> new ArrayList<>()).add(comment);
+        }
+    }
+
+    public BookingShortDto lastBooking(Long itemId) {
+        return lastBookings.get(itemId);
+    }
+
+    public BookingShortDto nextBooking(Long itemId) {
+        return nextBookings.get(itemId);
+    }
+
+    public List<Comment> comments(Long itemId) {
+        return comments.getOrDefault(itemId, List.of());
+    }
+
+    public ItemDto toItemDto(ItemTextDto item) {
+        return ItemDtoMapper.toItemDto(item, lastBooking(item.getId()), nextBooking(item.getId()),
+                comments(item.getId()));
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.core.item.persistance.entity.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
@@ -16,6 +17,8 @@ public class ItemDto {
     private BookingOutDto lastBooking;
     private BookingOutDto nextBooking;
     private List<CommentDto> comments;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer commentCount;
     private Long requestId;
 
 }
@@ -1,15 +1,13 @@
 package ru.practicum.shareit.core.item.persistance.entity.dto;
 
-import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingDtoMapper;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
 import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 public class ItemDtoMapper {
     private ItemDtoMapper() {
@@ -25,42 +23,53 @@ public class ItemDtoMapper {
                 .build();
     }
 
-    public static ItemShortDto toItemShortDto(Item item) {
-        return ItemShortDto.builder()
+    public static ItemDto toItemDto(ItemTextDto item) {
+        return ItemDto.builder()
                 .id(item.getId())
                 .name(item.getName())
-                .ownerId(item.getOwner().getId())
+                .description(item.getDescription())
+                .available(item.getAvailable())
                 .build();
     }
 
-    public static ItemDto toItemDto(Item item, List<Booking> bookings, List<Comment> comments) {
+    public static ItemTextDto toItemTextDto(Item item) {
+        return ItemTextDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .build();
+    }
+
+    public static ItemDto toItemDto(ItemTextDto item, BookingShortDto lastBooking, BookingShortDto nextBooking,
+                                    List<Comment> comments) {
         ItemDto itemOwnerDto = ItemDto.builder()
                 .id(item.getId())
                 .available(item.getAvailable())
                 .name(item.getName())
                 .description(item.getDescription())
+                .comments(comments.stream().map(CommentDtoMapper::toCommentDto).toList())
                 .build();
 
-        Optional<Booking> currentBooking = bookings.stream()
-                .filter(booking -> booking.getItem().getId().equals(item.getId()))
-                .filter(booking -> booking.getStart().isBefore(LocalDateTime.now()) && booking.getEnd().isAfter(LocalDateTime.now()))
-                .findFirst();
-
-        currentBooking.ifPresent(booking -> itemOwnerDto.setLastBooking(BookingDtoMapper.toBookingDto(booking)));
-
-        Optional<Booking> nextBooking = bookings.stream()
-                .filter(booking -> booking.getItem().getId().equals(item.getId()))
-                .filter(booking -> booking.getStart().isAfter(LocalDateTime.now()))
-                .min(Comparator.comparing(Booking::getStart));
-
-        nextBooking.ifPresent(booking -> itemOwnerDto.setNextBooking(BookingDtoMapper.toBookingDto(booking)));
-
-        List<CommentDto> commentList = comments.stream()
-                .filter(comment -> comment.getItem().getId().equals(item.getId()))
-                .map(CommentDtoMapper::toCommentDto)
-                .toList();
+        if (lastBooking != null) {
+            itemOwnerDto.setLastBooking(BookingDtoMapper.toBookingDto(lastBooking, item));
+        }
+        if (nextBooking != null) {
+            itemOwnerDto.setNextBooking(BookingDtoMapper.toBookingDto(nextBooking, item));
+        }
+        return itemOwnerDto;
+    }
 
-        itemOwnerDto.setComments(commentList);
+    public static ItemDto toItemDto(OwnerItemSummary summary) {
+        ItemTextDto item = ItemTextDto.builder()
+                .id(summary.getItemId())
+                .name(summary.getName())
+                .description(summary.getDescription())
+                .available(summary.getAvailable())
+                .build();
+        ItemDto itemOwnerDto = toItemDto(item, summary.getLastBooking(), summary.getNextBooking(), List.of());
+        itemOwnerDto.setComments(summary.getLatestComments() == null ? List.of() : summary.getLatestComments());
+        itemOwnerDto.setCommentCount(summary.getCommentCount());
         return itemOwnerDto;
     }
 
@@ -1,12 +1,17 @@
 package ru.practicum.shareit.core.item.persistance.entity.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class ItemShortDto {
     private Long id;
     private String name;
     private Long ownerId;
+    @JsonIgnore
+    private Long requestId;
 }
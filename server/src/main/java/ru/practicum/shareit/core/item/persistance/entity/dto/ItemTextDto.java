@@ -0,0 +1,15 @@
+package ru.practicum.shareit.core.item.persistance.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ItemTextDto {
+    private Long id;
+    private String name;
+    private String description;
+    private Boolean available;
+}
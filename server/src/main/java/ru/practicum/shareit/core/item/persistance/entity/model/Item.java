@@ -2,6 +2,8 @@ package ru.practicum.shareit.core.item.persistance.entity.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
 
@@ -12,6 +14,8 @@ import ru.practicum.shareit.core.user.persistance.entity.model.User;
 @Setter
 @Entity
 @Table(name = "items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Item {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,9 +30,9 @@ public class Item {
     @Column(name = "available", nullable = false)
     private Boolean available;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User owner;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private ItemRequest request;
 }
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.core.item.persistance.entity.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.summary.BookingShortDtoConverter;
+import ru.practicum.shareit.core.item.summary.CommentListConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "owner_item_summary")
+public class OwnerItemSummary {
+    public static final LocalDateTime EXPIRED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    @Column(name = "available", nullable = false)
+    private Boolean available;
+
+    @Convert(converter = BookingShortDtoConverter.class)
+    @Column(name = "last_booking")
+    private BookingShortDto lastBooking;
+
+    @Convert(converter = BookingShortDtoConverter.class)
+    @Column(name = "next_booking")
+    private BookingShortDto nextBooking;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount;
+
+    @Convert(converter = CommentListConverter.class)
+    @Column(name = "latest_comments")
+    private List<CommentDto> latestComments;
+
+    @Column(name = "valid_until")
+    private LocalDateTime validUntil;
+
+    public boolean isValidAt(LocalDateTime moment) {
+        return validUntil == null || validUntil.isAfter(moment);
+    }
+}
@@ -1,20 +1,42 @@
 package ru.practicum.shareit.core.item.persistance.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemShortDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
 
 import java.util.List;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findAllByOwnerId(Long ownerId);
-
     @Query("select item from Item item " +
-            "where item.available = TRUE and (upper(item.name) like upper(concat('%', ?1, '%')) " +
-            "or upper(item.description) like upper(concat('%', ?1, '%')))")
-    List<Item> findAllBySearch(String search);
+            "where item.available = TRUE and (lower(item.name) like lower(concat('%', ?1, '%')) " +
+            "or lower(item.description) like lower(concat('%', ?1, '%'))) " +
+            "order by case when lower(item.name) like lower(concat('%', ?1, '%')) then 0 else 1 end, item.id")
+    List<Item> findAllBySearch(String search, Pageable page);
+
+    @Query(value = "select i.* from items i " +
+            "where i.available and (i.search_vector @@ websearch_to_tsquery('russian', ?1) " +
+            "or lower(i.name) like '%' || lower(?1) || '%' " +
+            "or lower(i.description) like '%' || lower(?1) || '%') " +
+            "order by ts_rank(i.search_vector, websearch_to_tsquery('russian', ?1)) desc, " +
+            "lower(i.name) like '%' || lower(?1) || '%' desc, i.id",
+            nativeQuery = true)
+    List<Item> findAllByFullTextSearch(String search, Pageable page);
+
+    @Query("select new ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto(" +
+            "item.id, item.name, item.description, item.available) from Item item")
+    List<ItemTextDto> findAllTexts();
+
+    @Query("select new ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto(" +
+            "item.id, item.name, item.description, item.available) from Item item left join item.request request " +
+            "where item.owner.id = ?1 or request.requester.id = ?1")
+    List<ItemTextDto> findAllTextsByOwnerIdOrRequesterId(Long userId);
 
-    List<Item> findAllByRequestIdIn(List<Long> requestIdList);
+    @Query("select new ru.practicum.shareit.core.item.persistance.entity.dto.ItemShortDto(" +
+            "item.id, item.name, item.owner.id, item.request.id) from Item item where item.request.id in ?1")
+    List<ItemShortDto> findAllShortByRequestIdIn(List<Long> requestIdList);
 }
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.core.item.persistance.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OwnerItemSummaryRepository extends JpaRepository<OwnerItemSummary, Long> {
+    List<OwnerItemSummary> findAllByOwnerIdOrderByItemId(Long ownerId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OwnerItemSummary s where s.itemId = ?1")
+    Optional<OwnerItemSummary> findForUpdateByItemId(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OwnerItemSummary s where s.itemId in ?1 order by s.itemId")
+    List<OwnerItemSummary> findAllForUpdateByItemIdIn(Collection<Long> itemIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OwnerItemSummary> findAllByValidUntilLessThanEqualOrderByValidUntil(LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("update OwnerItemSummary s set s.validUntil = ?2 where s.itemId = ?1")
+    int expireByItemId(Long itemId, LocalDateTime expired);
+
+    @Modifying
+    @Query("update OwnerItemSummary s set s.validUntil = ?2 " +
+            "where s.itemId in (select b.item.id from Booking b where b.booker.id = ?1) " +
+            "or s.itemId in (select c.item.id from Comment c where c.author.id = ?1)")
+    int expireAllByParticipantId(Long userId, LocalDateTime expired);
+}
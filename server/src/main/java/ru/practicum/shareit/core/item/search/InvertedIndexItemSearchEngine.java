@@ -0,0 +1,167 @@
+package ru.practicum.shareit.core.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+import ru.practicum.shareit.utils.AfterCommit;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "index")
+public class InvertedIndexItemSearchEngine implements ItemSearchEngine {
+    private static final int GRAM = 3;
+
+    private final ItemRepository itemRepository;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ItemTextDto> texts = itemRepository.findAllTexts();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            texts.forEach(text -> put(new Document(text.getId(), text.getName(), text.getDescription(),
+                    Boolean.TRUE.equals(text.getAvailable()))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Item item) {
+        Document document = new Document(item.getId(), item.getName(), item.getDescription(),
+                Boolean.TRUE.equals(item.getAvailable()));
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(documents.get(document.id));
+                put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.deletedItems().forEach(item -> remove(documents.remove(item.getId())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable page) {
+        List<Long> ids = findIds(text.toLowerCase()).stream()
+                .skip(page.getOffset())
+                .limit(page.getPageSize())
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Item> items = new HashMap<>();
+        itemRepository.findAllById(ids).forEach(item -> items.put(item.getId(), item));
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<Long> findIds(String query) {
+        lock.readLock().lock();
+        try {
+            return candidates(query).stream()
+                    .map(documents::get)
+                    .filter(document -> document.available && document.matches(query))
+                    .sorted(Comparator.comparing((Document document) -> !document.name.contains(query))
+                            .thenComparing(document -> document.id))
+                    .map(document -> document.id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> candidates(String query) {
+        if (query.length() < GRAM) {
+            return documents.keySet();
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void put(Document document) {
+        documents.put(document.id, document);
+        for (String gram : document.allGrams()) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id);
+        }
+    }
+
+    private void remove(Document document) {
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.allGrams()) {
+            Set<Long> ids = postings.get(gram);
+            ids.remove(document.id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Document(Long id, String name, String description, boolean available) {
+        private Document {
+            name = name.toLowerCase();
+            description = description.toLowerCase();
+        }
+
+        boolean matches(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        Set<String> allGrams() {
+            Set<String> grams = grams(name);
+            grams.addAll(grams(description));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package ru.practicum.shareit.core.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+import ru.practicum.shareit.utils.AfterCommit;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class ItemNameSuggester {
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingInt((Suggestion suggestion) -> -suggestion.count())
+            .thenComparing(Suggestion::key);
+
+    private final ItemRepository itemRepository;
+    private volatile Node root = Node.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Node rebuilt = Node.EMPTY;
+        for (ItemTextDto text : itemRepository.findAllTexts()) {
+            if (isSuggested(text)) {
+                rebuilt = change(rebuilt, keyOf(text.getName()), text.getName().strip(), 1);
+            }
+        }
+        root = rebuilt;
+    }
+
+    public void update(ItemTextDto before, ItemTextDto after) {
+        AfterCommit.run(() -> apply(before, after));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        event.deletedItems().forEach(item -> apply(item, null));
+    }
+
+    private synchronized void apply(ItemTextDto before, ItemTextDto after) {
+        Node updated = root;
+        if (isSuggested(before)) {
+            updated = change(updated, keyOf(before.getName()), before.getName().strip(), -1);
+        }
+        if (isSuggested(after)) {
+            updated = change(updated, keyOf(after.getName()), after.getName().strip(), 1);
+        }
+        root = updated;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        String rest = keyOf(prefix);
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                return List.of();
+            }
+            if (child.label.startsWith(rest)) {
+                node = child;
+                break;
+            }
+            if (!rest.startsWith(child.label)) {
+                return List.of();
+            }
+            rest = rest.substring(child.label.length());
+            node = child;
+        }
+        return node.top.stream()
+                .limit(limit)
+                .map(Suggestion::name)
+                .toList();
+    }
+
+    private boolean isSuggested(ItemTextDto item) {
+        return item != null && Boolean.TRUE.equals(item.getAvailable()) && !item.getName().isBlank();
+    }
+
+    private String keyOf(String name) {
+        return name.strip().toLowerCase();
+    }
+
+    private Node change(Node node, String rest, String name, int delta) {
+        if (rest.isEmpty()) {
+            return Node.of(node.label, node.key, delta > 0 ? name : node.name, node.count + delta, node.children);
+        }
+        char first = rest.charAt(0);
+        Node child = node.children.get(first);
+        if (child == null) {
+            if (delta <= 0) {
+                return node;
+            }
+            return node.withChild(first, Node.of(rest, node.key + rest, name, delta, Map.of()));
+        }
+        int common = commonPrefixLength(child.label, rest);
+        if (common < child.label.length()) {
+            if (delta <= 0) {
+                return node;
+            }
+            String suffix = child.label.substring(common);
+            child = new Node(child.label.substring(0, common), node.key + rest.substring(0, common), null, 0,
+                    Map.of(suffix.charAt(0), child.withLabel(suffix)));
+        }
+        return node.withChild(first, change(child, rest.substring(common), name, delta));
+    }
+
+    private int commonPrefixLength(String left, String right) {
+        int length = Math.min(left.length(), right.length());
+        int i = 0;
+        while (i < length && left.charAt(i) == right.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Suggestion(String key, String name, int count) {
+    }
+
+    private static final class Node {
+        private static final Node EMPTY = new Node("", "", null, 0, Map.of());
+
+        private final String label;
+        private final String key;
+        private final String name;
+        private final int count;
+        private final Map<Character, Node> children;
+        private final List<Suggestion> top;
+
+        private Node(String label, String key, String name, int count, Map<Character, Node> children) {
+            this.label = label;
+            this.key = key;
+            this.name = name;
+            this.count = count;
+            this.children = children;
+            List<Suggestion> candidates = new ArrayList<>();
+            if (count > 0) {
+                candidates.add(new Suggestion(key, name, count));
+            }
+            children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(RANKING);
+            this.top = List.copyOf(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+        }
+
+        private static Node of(String label, String key, String name, int count, Map<Character, Node> children) {
+            boolean isRoot = label.isEmpty();
+            if (count <= 0 && !isRoot) {
+                if (children.isEmpty()) {
+                    return null;
+                }
+                if (children.size() == 1) {
+                    Node child = children.values().iterator().next();
+                    return child.withLabel(label + child.label);
+                }
+            }
+            return new Node(label, key, name, count, Map.copyOf(children));
+        }
+
+        private Node withLabel(String newLabel) {
+            return new Node(newLabel, key, name, count, children);
+        }
+
+        private Node withChild(char first, Node child) {
+            Map<Character, Node> updated = new HashMap<>(children);
+            if (child == null) {
+                updated.remove(first);
+            } else {
+                updated.put(first, child);
+            }
+            return of(label, key, name, count, updated);
+        }
+    }
+}
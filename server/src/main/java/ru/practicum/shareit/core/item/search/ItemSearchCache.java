@@ -0,0 +1,186 @@
+package ru.practicum.shareit.core.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+import ru.practicum.shareit.utils.AfterCommit;
+import ru.practicum.shareit.utils.PrimaryReader;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+@Component
+public class ItemSearchCache {
+    private static final int MIN_STEM_LENGTH = 2;
+    private static final String VOWELS = "аеёиоуыэюяaeiouy";
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String NO_WORDS = "";
+
+    private final Cache<SearchKey, List<ItemDto>> cache;
+    private final PrimaryReader primaryReader;
+    private final Map<String, Set<SearchKey>> keysByStem = new HashMap<>();
+    private final Map<Long, Set<SearchKey>> keysByItemId = new HashMap<>();
+    private final Map<SearchKey, List<Long>> itemIdsByKey = new HashMap<>();
+    private int maxStemLength;
+    private long generation;
+
+    public ItemSearchCache(@Value("${shareit.search.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${shareit.search.cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes,
+                           MeterRegistry meterRegistry,
+                           PrimaryReader primaryReader) {
+        this.primaryReader = primaryReader;
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .removalListener((SearchKey key, List<ItemDto> value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        unindexIfAbsent(key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "items.search");
+    }
+
+    public List<ItemDto> get(String text, Pageable page, Function<String, List<ItemDto>> loader) {
+        SearchKey key = new SearchKey(normalize(text), page.getOffset(), page.getPageSize());
+        List<ItemDto> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation();
+        List<ItemDto> loaded = primaryReader.read(() -> loader.apply(key.text()));
+        put(key, loaded, loadGeneration);
+        return loaded;
+    }
+
+    public void evict(ItemTextDto before, ItemTextDto after) {
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        AfterCommit.run(() -> invalidate(before, after));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        event.deletedItems().forEach(item -> invalidate(item, null));
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void put(SearchKey key, List<ItemDto> items, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        unindex(key);
+        cache.put(key, items);
+        List<Long> itemIds = items.stream().map(ItemDto::getId).toList();
+        itemIdsByKey.put(key, itemIds);
+        itemIds.forEach(id -> keysByItemId.computeIfAbsent(id, ignored -> new HashSet<>()).add(key));
+        for (String stem : stems(key.text())) {
+            keysByStem.computeIfAbsent(stem, ignored -> new HashSet<>()).add(key);
+            maxStemLength = Math.max(maxStemLength, stem.length());
+        }
+    }
+
+    private synchronized void invalidate(ItemTextDto before, ItemTextDto after) {
+        generation++;
+        Set<SearchKey> keys = new HashSet<>();
+        collectMatching(before, keys);
+        collectMatching(after, keys);
+        Optional.ofNullable(before != null ? before : after)
+                .map(item -> keysByItemId.get(item.getId()))
+                .ifPresent(keys::addAll);
+        keys.forEach(key -> {
+            cache.invalidate(key);
+            unindex(key);
+        });
+    }
+
+    private synchronized void unindexIfAbsent(SearchKey key) {
+        if (!cache.asMap().containsKey(key)) {
+            unindex(key);
+        }
+    }
+
+    private void unindex(SearchKey key) {
+        List<Long> itemIds = itemIdsByKey.remove(key);
+        if (itemIds == null) {
+            return;
+        }
+        itemIds.forEach(id -> remove(keysByItemId, id, key));
+        stems(key.text()).forEach(stem -> remove(keysByStem, stem, key));
+    }
+
+    private void collectMatching(ItemTextDto item, Set<SearchKey> keys) {
+        if (item == null || !Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        keys.addAll(keysByStem.getOrDefault(NO_WORDS, Set.of()));
+        for (String word : words(item.getName() + " " + item.getDescription())) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + maxStemLength);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    Set<SearchKey> matching = keysByStem.get(word.substring(start, end));
+                    if (matching != null) {
+                        keys.addAll(matching);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> stems(String text) {
+        Set<String> stems = new HashSet<>();
+        for (String word : words(text)) {
+            stems.add(stemPrefix(word));
+        }
+        if (stems.isEmpty()) {
+            stems.add(NO_WORDS);
+        }
+        return stems;
+    }
+
+    private static String stemPrefix(String word) {
+        int firstVowel = 0;
+        while (firstVowel < word.length() && VOWELS.indexOf(word.charAt(firstVowel)) < 0) {
+            firstVowel++;
+        }
+        int length = Math.max(MIN_STEM_LENGTH, Math.min(firstVowel + 1, word.length() - 1));
+        return word.substring(0, Math.min(length, word.length()));
+    }
+
+    private static List<String> words(String text) {
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase()))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static <K> void remove(Map<K, Set<SearchKey>> index, K indexKey, SearchKey key) {
+        Set<SearchKey> keys = index.get(indexKey);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            index.remove(indexKey);
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.strip().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private record SearchKey(String text, long offset, int size) {
+    }
+}
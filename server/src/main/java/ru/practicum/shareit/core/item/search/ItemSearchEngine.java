@@ -0,0 +1,13 @@
+package ru.practicum.shareit.core.item.search;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchEngine {
+    List<Item> search(String text, Pageable page);
+
+    default void index(Item item) {
+    }
+}
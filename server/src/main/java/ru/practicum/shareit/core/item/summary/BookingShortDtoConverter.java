@@ -0,0 +1,13 @@
+package ru.practicum.shareit.core.item.summary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.Converter;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
+
+@Converter
+public class BookingShortDtoConverter extends JsonAttributeConverter<BookingShortDto> {
+    public BookingShortDtoConverter() {
+        super(new TypeReference<>() {
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.core.item.summary;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.Converter;
+import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+
+import java.util.List;
+
+@Converter
+public class CommentListConverter extends JsonAttributeConverter<List<CommentDto>> {
+    public CommentListConverter() {
+        super(new TypeReference<>() {
+        });
+    }
+}
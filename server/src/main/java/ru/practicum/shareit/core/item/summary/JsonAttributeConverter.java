@@ -0,0 +1,46 @@
+package ru.practicum.shareit.core.item.summary;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.AttributeConverter;
+
+abstract class JsonAttributeConverter<T> implements AttributeConverter<T, String> {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final TypeReference<T> type;
+
+    protected JsonAttributeConverter(TypeReference<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(T attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось сериализовать " + type.getType(), e);
+        }
+    }
+
+    @Override
+    public T convertToEntityAttribute(String column) {
+        if (column == null) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(column, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось прочитать " + type.getType(), e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.core.item.summary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.core.booking.event.BookingChangedEvent;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
+import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDtoMapper;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDetailsResolver;
+import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
+import ru.practicum.shareit.core.item.persistance.repository.CommentRepository;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.persistance.repository.OwnerItemSummaryRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class OwnerItemSummaryUpdater {
+    public static final int LATEST_COMMENTS = 10;
+
+    private final OwnerItemSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Limit refreshBatchSize;
+
+    public OwnerItemSummaryUpdater(OwnerItemSummaryRepository summaryRepository,
+                                   BookingRepository bookingRepository,
+                                   CommentRepository commentRepository,
+                                   ItemRepository itemRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${shareit.items.summary.refresh-batch-size:500}") int refreshBatchSize) {
+        this.summaryRepository = summaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.commentRepository = commentRepository;
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.refreshBatchSize = Limit.of(refreshBatchSize);
+    }
+
+    @Transactional
+    public void refresh(Item item) {
+        OwnerItemSummary summary = summaryRepository.findForUpdateByItemId(item.getId())
+                .orElseGet(() -> OwnerItemSummary.builder().itemId(item.getId()).build());
+        summary.setOwnerId(item.getOwner().getId());
+        summary.setName(item.getName());
+        summary.setDescription(item.getDescription());
+        summary.setAvailable(item.getAvailable());
+        resolve(List.of(summary), LocalDateTime.now());
+        summaryRepository.save(summary);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OwnerItemSummary> refreshAll(List<Long> itemIds) {
+        List<OwnerItemSummary> summaries = summaryRepository.findAllForUpdateByItemIdIn(itemIds);
+        if (!summaries.isEmpty()) {
+            resolve(summaries, LocalDateTime.now());
+        }
+        return summaries;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        itemRepository.findById(event.itemId()).ifPresent(this::refresh);
+    }
+
+    @Transactional
+    public void expire(Long itemId) {
+        summaryRepository.expireByItemId(itemId, OwnerItemSummary.EXPIRED);
+    }
+
+    @Transactional
+    public void expireAllByParticipant(Long userId) {
+        summaryRepository.expireAllByParticipantId(userId, OwnerItemSummary.EXPIRED);
+    }
+
+    @Scheduled(initialDelayString = "${shareit.items.summary.refresh-interval-ms:60000}",
+            fixedDelayString = "${shareit.items.summary.refresh-interval-ms:60000}")
+    public void refreshExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> refreshExpiredBatch(now)));
+        }
+    }
+
+    public void resolve(List<OwnerItemSummary> summaries, LocalDateTime now) {
+        List<Long> itemIds = summaries.stream().map(OwnerItemSummary::getItemId).toList();
+        ItemDetailsResolver resolver = new ItemDetailsResolver(
+                bookingRepository.findLastAndNextByItemIdIn(itemIds, now),
+                commentRepository.findAllByItemIdIn(itemIds), now);
+        for (OwnerItemSummary summary : summaries) {
+            BookingShortDto lastBooking = resolver.lastBooking(summary.getItemId());
+            BookingShortDto nextBooking = resolver.nextBooking(summary.getItemId());
+            List<Comment> comments = resolver.comments(summary.getItemId());
+            summary.setLastBooking(lastBooking);
+            summary.setNextBooking(nextBooking);
+            summary.setCommentCount(comments.size());
+            summary.setLatestComments(comments.stream()
+                    .sorted(Comparator.comparing(Comment::getCreated).thenComparing(Comment::getId).reversed())
+                    .limit(LATEST_COMMENTS)
+                    .map(CommentDtoMapper::toCommentDto)
+                    .toList());
+            summary.setValidUntil(validUntil(lastBooking, nextBooking));
+        }
+    }
+
+    private boolean refreshExpiredBatch(LocalDateTime now) {
+        List<OwnerItemSummary> expired = summaryRepository.findAllByValidUntilLessThanEqualOrderByValidUntil(now,
+                refreshBatchSize);
+        if (expired.isEmpty()) {
+            return false;
+        }
+        resolve(expired, now);
+        return expired.size() == refreshBatchSize.max();
+    }
+
+    private LocalDateTime validUntil(BookingShortDto lastBooking, BookingShortDto nextBooking) {
+        if (lastBooking == null) {
+            return nextBooking == null ? null : nextBooking.getStart();
+        }
+        if (nextBooking == null || lastBooking.getEnd().isBefore(nextBooking.getStart())) {
+            return lastBooking.getEnd();
+        }
+        return nextBooking.getStart();
+    }
+}
@@ -2,61 +2,67 @@ package ru.practicum.shareit.core.request;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDtoMapper;
-import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemShortDto;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
 import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestDto;
 import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestDtoMapper;
+import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestShortDto;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
 import ru.practicum.shareit.exception.NotFoundException;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRepository itemRepository;
 
     private static final String NOT_FOUND_REQUEST = "Запрос не найден";
-    private static final String NOT_FOUND_USER = "Пользователь не найден";
 
     @Override
     public List<ItemRequestDto> findAllOwn(Long userId) {
-        List<ItemRequest> requests = itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId);
-        List<Item> items = itemRepository.findAllByRequestIdIn(requests.stream().map(ItemRequest::getId).toList());
-        return requests.stream().map(request -> ItemRequestDtoMapper.toItemRequestDto(request,
-                items.stream()
-                        .filter(item -> Objects.equals(item.getRequest().getId(), request.getId()))
-                        .map(ItemDtoMapper::toItemShortDto).toList())).toList();
+        return withItems(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId));
     }
 
     @Override
     public List<ItemRequestDto> findAll(Long userId) {
-        List<ItemRequest> requests = itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userId);
-        List<Item> items = itemRepository.findAllByRequestIdIn(requests.stream().map(ItemRequest::getId).toList());
-        return requests.stream().map(request -> ItemRequestDtoMapper.toItemRequestDto(request,
-                items.stream()
-                        .filter(item -> Objects.equals(item.getRequest().getId(), request.getId()))
-                        .map(ItemDtoMapper::toItemShortDto).toList())).toList();
+        return withItems(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userId));
     }
 
     @Override
     public ItemRequestDto findById(Long itemRequestId) {
         ItemRequest itemRequest = itemRequestRepository.findById(itemRequestId).orElseThrow(() -> new NotFoundException(NOT_FOUND_REQUEST));
-        List<Item> items = itemRepository.findAllByRequestIdIn(List.of(itemRequest.getId()));
-        return ItemRequestDtoMapper.toItemRequestDto(itemRequest, items.stream().map(ItemDtoMapper::toItemShortDto).toList());
+        List<ItemShortDto> items = itemRepository.findAllShortByRequestIdIn(List.of(itemRequest.getId()));
+        return ItemRequestDtoMapper.toItemRequestDto(itemRequest, items);
     }
 
     @Override
+    @Transactional
     public ItemRequestDto create(ItemRequestDto itemRequestDto, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+        User user = UserDtoMapper.toUser(userService.findById(userId));
         ItemRequest itemRequest = ItemRequestDtoMapper.toItemRequest(itemRequestDto, user);
         return ItemRequestDtoMapper.toItemRequestDto(itemRequestRepository.saveAndFlush(itemRequest));
     }
+
+    private List<ItemRequestDto> withItems(List<ItemRequestShortDto> requests) {
+        Map<Long, List<ItemShortDto>> items = itemRepository.findAllShortByRequestIdIn(requests.stream()
+                        .map(ItemRequestShortDto::getId)
+                        .toList())
+                .stream()
+                .collect(Collectors.groupingBy(ItemShortDto::getRequestId));
+        return requests.stream()
+                .map(request -> ItemRequestDtoMapper.toItemRequestDto(request,
+                        items.getOrDefault(request.getId(), List.of())))
+                .toList();
+    }
 }
@@ -29,6 +29,15 @@ public class ItemRequestDtoMapper {
                 .build();
     }
 
+    public static ItemRequestDto toItemRequestDto(ItemRequestShortDto itemRequest, List<ItemShortDto> items) {
+        return ItemRequestDto.builder()
+                .id(itemRequest.getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .items(items)
+                .build();
+    }
+
     public static ItemRequest toItemRequest(ItemRequestDto itemRequestDto, User user) {
         return ItemRequest.builder()
                 .description(itemRequestDto.getDescription())
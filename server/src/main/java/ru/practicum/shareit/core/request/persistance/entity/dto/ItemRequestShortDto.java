@@ -0,0 +1,16 @@
+package ru.practicum.shareit.core.request.persistance.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ItemRequestShortDto {
+    private Long id;
+    private String description;
+    private LocalDateTime created;
+}
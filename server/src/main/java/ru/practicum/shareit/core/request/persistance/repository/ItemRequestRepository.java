@@ -1,14 +1,23 @@
 package ru.practicum.shareit.core.request.persistance.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestShortDto;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 
 import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(Long userId);
+    @Query("select new ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestShortDto(" +
+            "r.id, r.description, r.created) from ItemRequest r where r.requester.id = ?1 order by r.created desc")
+    List<ItemRequestShortDto> findAllByRequesterIdOrderByCreatedDesc(Long userId);
 
-    List<ItemRequest> findAllByRequesterIdNotOrderByCreatedDesc(Long userId);
+    @Query("select new ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestShortDto(" +
+            "r.id, r.description, r.created) from ItemRequest r where r.requester.id <> ?1 order by r.created desc")
+    List<ItemRequestShortDto> findAllByRequesterIdNotOrderByCreatedDesc(Long userId);
+
+    @Query("select r.id from ItemRequest r where r.requester.id = ?1")
+    List<Long> findAllIdsByRequesterId(Long userId);
 }
@@ -1,8 +1,15 @@
 package ru.practicum.shareit.core.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.exception.DuplicatedDataException;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
+import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
+import ru.practicum.shareit.core.user.cache.UserCache;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
@@ -13,21 +20,32 @@ import java.util.*;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final OwnerItemSummaryUpdater ownerItemSummaryUpdater;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String NOT_FOUND_USER = "Пользователь не найден";
 
     public UserDto findById(Long id) {
-        Optional<User> user = userRepository.findById(id);
-        return UserDtoMapper.toUserDto(user.orElseThrow(()  -> new NotFoundException(NOT_FOUND_USER)));
+        return userCache.get(id, key -> {
+            Optional<User> user = userRepository.findById(key);
+            return UserDtoMapper.toUserDto(user.orElseThrow(()  -> new NotFoundException(NOT_FOUND_USER)));
+        });
     }
 
+    @Transactional
     public UserDto create(UserDto userDto) {
         User user = UserDtoMapper.toUser(userDto);
-        validate(user);
-        return UserDtoMapper.toUserDto(userRepository.saveAndFlush(user));
+        UserDto created = UserDtoMapper.toUserDto(userRepository.saveAndFlush(user));
+        userCache.put(created);
+        return created;
     }
 
+    @Transactional
     public UserDto update(Long id, UserDto userDto) {
         Optional<User> userOptional = userRepository.findById(id);
         User user = userOptional.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
@@ -39,21 +57,22 @@ public class UserServiceImpl implements UserService {
             user.setEmail(userDto.getEmail());
         }
 
-        validate(user);
         userRepository.saveAndFlush(user);
-        return UserDtoMapper.toUserDto(user);
+        ownerItemSummaryUpdater.expireAllByParticipant(id);
+        UserDto updated = UserDtoMapper.toUserDto(user);
+        userCache.put(updated);
+        return updated;
     }
 
+    @Transactional
     public void delete(Long id) {
         Optional<User> user = userRepository.findById(id);
         user.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER));
+        ownerItemSummaryUpdater.expireAllByParticipant(id);
+        List<ItemTextDto> deletedItems = itemRepository.findAllTextsByOwnerIdOrRequesterId(id);
+        List<Long> deletedRequestIds = itemRequestRepository.findAllIdsByRequesterId(id);
         userRepository.deleteById(id);
-    }
-
-    private void validate(User user) throws DuplicatedDataException {
-        Optional<User> userOptional = userRepository.findAllByEmail(user.getEmail());
-        if (userOptional.isPresent() && !userOptional.get().getId().equals(user.getId())) {
-            throw new DuplicatedDataException("Этот email уже используется");
-        }
+        userCache.evict(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id, deletedItems, deletedRequestIds));
     }
 }
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.core.user.cache;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        Cache cache = entityManagerFactory.getCache();
+        event.deletedItems().stream()
+                .map(ItemTextDto::getId)
+                .forEach(id -> cache.evict(Item.class, id));
+        event.deletedRequestIds().forEach(id -> cache.evict(ItemRequest.class, id));
+    }
+}
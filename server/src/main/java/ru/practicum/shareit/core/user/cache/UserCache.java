@@ -0,0 +1,54 @@
+package ru.practicum.shareit.core.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.utils.AfterCommit;
+import ru.practicum.shareit.utils.PrimaryReader;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+    private final Cache<Long, UserDto> cache;
+    private final PrimaryReader primaryReader;
+
+    public UserCache(@Value("${shareit.user.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${shareit.user.cache.expire-after-write-minutes:5}") long expireAfterWriteMinutes,
+                     MeterRegistry meterRegistry,
+                     PrimaryReader primaryReader) {
+        this.primaryReader = primaryReader;
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public UserDto get(Long id, Function<Long, UserDto> loader) {
+        return copy(cache.get(id, key -> primaryReader.read(() -> loader.apply(key))));
+    }
+
+    public void put(UserDto user) {
+        UserDto copy = copy(user);
+        AfterCommit.run(() -> cache.put(copy.getId(), copy));
+    }
+
+    public void evict(Long id) {
+        AfterCommit.run(() -> cache.invalidate(id));
+    }
+
+    private static UserDto copy(UserDto user) {
+        return UserDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.core.user.event;
+
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+
+import java.util.List;
+
+public record UserDeletedEvent(Long userId, List<ItemTextDto> deletedItems, List<Long> deletedRequestIds) {
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.core.user.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+
+@Component
+@RequiredArgsConstructor
+public class SharerUserArgumentResolver implements HandlerMethodArgumentResolver {
+    public static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String USER_ATTRIBUTE = SharerUserArgumentResolver.class.getName() + ".user";
+
+    private final UserService userService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SharerUser.class)
+                && UserDto.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public UserDto resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory)
+            throws MissingRequestHeaderException {
+        Object resolved = webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved instanceof UserDto user) {
+            return user;
+        }
+        String header = webRequest.getHeader(USER_HEADER);
+        if (header == null) {
+            throw new MissingRequestHeaderException(USER_HEADER, parameter);
+        }
+        UserDto user = userService.findById(Long.valueOf(header.strip()));
+        if (user != null) {
+            webRequest.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+}
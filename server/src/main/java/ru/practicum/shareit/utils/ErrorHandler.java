@@ -1,16 +1,21 @@
 package ru.practicum.shareit.utils;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.exception.DuplicatedDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 
 import java.util.Objects;
 
 @RestControllerAdvice
 public class ErrorHandler {
+    private static final String DUPLICATED_EMAIL = "Этот email уже используется";
+    private static final String EMAIL_CONSTRAINT = "uq_user_email";
 
     @ExceptionHandler
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -27,6 +32,23 @@ public class ErrorHandler {
         return new ErrorResponse("Некорректное значение параметра " + field + ": " + errorMessage);
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public ErrorResponse handleDuplicated(final DuplicatedDataException e) {
+        return new ErrorResponse(e.getMessage());
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public ErrorResponse handleDataIntegrityViolation(final DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(EMAIL_CONSTRAINT)) {
+            return handleDuplicated(new DuplicatedDataException(DUPLICATED_EMAIL));
+        }
+        return handleGeneric(e);
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGeneric(final Throwable e) {
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.utils;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class PrimaryReader {
+    private final TransactionTemplate primaryTransaction;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        primaryTransaction = new TransactionTemplate(transactionManager);
+        primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return reader.get();
+        }
+        return primaryTransaction.execute(status -> reader.get());
+    }
+}
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS owner_item_summary
+(
+    item_id         BIGINT       NOT NULL,
+    owner_id        BIGINT       NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255) NOT NULL,
+    available       BOOLEAN      NOT NULL,
+    last_booking    TEXT,
+    next_booking    TEXT,
+    comment_count   INTEGER      NOT NULL DEFAULT 0,
+    latest_comments TEXT,
+    valid_until     TIMESTAMP,
+    CONSTRAINT pk_owner_item_summary PRIMARY KEY (item_id),
+    CONSTRAINT fk_owner_item_summary_item FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_owner_item_summary_owner ON owner_item_summary (owner_id, item_id);
+
+CREATE INDEX IF NOT EXISTS idx_owner_item_summary_valid_until ON owner_item_summary (valid_until);
+
+INSERT INTO owner_item_summary (item_id, owner_id, name, description, available, valid_until)
+SELECT id, owner_id, name, description, available, TIMESTAMP '1970-01-01 00:00:00'
+FROM items
+WHERE owner_id IS NOT NULL;
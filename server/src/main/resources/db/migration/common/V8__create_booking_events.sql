@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS booking_events
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    booking_id   BIGINT                                  NOT NULL,
+    item_id      BIGINT                                  NOT NULL,
+    booker_id    BIGINT                                  NOT NULL,
+    type         VARCHAR(30)                             NOT NULL,
+    start_date   TIMESTAMP                               NOT NULL,
+    end_date     TIMESTAMP                               NOT NULL,
+    created      TIMESTAMP                               NOT NULL,
+    published_at TIMESTAMP,
+    CONSTRAINT pk_booking_event PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_events_published_at ON booking_events (published_at, id);
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_bookings_waiting_booker_start ON bookings (booker_id, start_date DESC)
+    WHERE status = 'WAITING';
+
+CREATE INDEX IF NOT EXISTS idx_bookings_waiting_item_start ON bookings (item_id, start_date DESC)
+    WHERE status = 'WAITING';
@@ -0,0 +1,31 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO
+$$
+    DECLARE
+        conflicts TEXT;
+    BEGIN
+        SELECT string_agg(b.id::TEXT, ', ' ORDER BY b.id)
+        INTO conflicts
+        FROM bookings b
+        WHERE b.status IN ('WAITING', 'APPROVED')
+          AND (b.start_date > b.end_date
+            OR EXISTS (SELECT 1
+                       FROM bookings o
+                       WHERE o.item_id = b.item_id
+                         AND o.id <> b.id
+                         AND o.status IN ('WAITING', 'APPROVED')
+                         AND o.start_date < o.end_date
+                         AND b.start_date < b.end_date
+                         AND o.start_date < b.end_date
+                         AND o.end_date > b.start_date));
+        IF conflicts IS NOT NULL THEN
+            RAISE EXCEPTION 'Активные бронирования пересекаются или заканчиваются раньше начала, id: %. Отклоните лишние бронирования вручную и повторите миграцию.', conflicts;
+        END IF;
+    END
+$$;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_item_period
+        EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+        WHERE (status IN ('WAITING', 'APPROVED'));
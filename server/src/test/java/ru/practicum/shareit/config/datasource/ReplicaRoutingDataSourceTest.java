@@ -0,0 +1,114 @@
+package ru.practicum.shareit.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final ReplicaRoutingDataSource dataSource;
+
+    ReplicaRoutingDataSourceTest() {
+        replicas.put("replica-0", mock(DataSource.class));
+        replicas.put("replica-1", mock(DataSource.class));
+        dataSource = new ReplicaRoutingDataSource(mock(DataSource.class), replicas, Duration.ofSeconds(10));
+    }
+
+    @BeforeEach
+    void startReadOnlyTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        ReplicaRoutingContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routesToPrimaryUntilReplicaLagIsKnown() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void routesWritesToPrimary() {
+        dataSource.updateLag("replica-0", Duration.ZERO, Instant.now());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void balancesBetweenFreshReplicas() {
+        dataSource.updateLag("replica-0", Duration.ZERO, Instant.now());
+        dataSource.updateLag("replica-1", Duration.ofSeconds(1), Instant.now());
+
+        Set<Object> keys = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            keys.add(dataSource.determineCurrentLookupKey());
+        }
+
+        assertEquals(replicas.keySet(), keys);
+    }
+
+    @Test
+    void skipsReplicasLaggingBeyondLimit() {
+        dataSource.updateLag("replica-0", Duration.ofMinutes(1), Instant.now());
+        dataSource.updateLag("replica-1", Duration.ofSeconds(1), Instant.now());
+
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+
+        dataSource.updateLag("replica-1", null, Instant.now());
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readsOwnWriteOnlyFromReplicasThatCaughtUp() {
+        dataSource.updateLag("replica-0", Duration.ofSeconds(5), Instant.now());
+        dataSource.updateLag("replica-1", Duration.ZERO, Instant.now());
+        ReplicaRoutingContext.setLastWrite(Instant.now().minusSeconds(2));
+
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+
+        dataSource.updateLag("replica-1", Duration.ofSeconds(3), Instant.now());
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void ignoresReplicaMeasuredBeforeLastWrite() {
+        Instant now = Instant.now();
+        dataSource.updateLag("replica-0", Duration.ZERO, now.minusSeconds(5));
+        dataSource.updateLag("replica-1", Duration.ofSeconds(1), now.minusSeconds(4));
+        ReplicaRoutingContext.setLastWrite(now.minusSeconds(2));
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+        dataSource.updateLag("replica-1", Duration.ofSeconds(1), now);
+
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void skipsReplicasWithOutdatedMeasurement() {
+        dataSource.updateLag("replica-0", Duration.ZERO, Instant.now().minusSeconds(30));
+        dataSource.updateLag("replica-1", Duration.ofSeconds(2), Instant.now().minusSeconds(9));
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+}
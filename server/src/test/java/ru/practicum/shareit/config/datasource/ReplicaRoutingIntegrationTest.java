@@ -0,0 +1,80 @@
+package ru.practicum.shareit.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.core.item.ItemService;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.cache.UserCache;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ShareItApp.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing",
+        "shareit.datasource.routing.enabled=true",
+        "shareit.datasource.routing.replicas[0].driver-class-name=org.h2.Driver",
+        "shareit.datasource.routing.replicas[0].url=jdbc:h2:mem:replica-routing",
+        "shareit.datasource.routing.replicas[0].username=replica",
+        "shareit.datasource.routing.replicas[0].password=replica"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class ReplicaRoutingIntegrationTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final UserService userService;
+    private final UserCache userCache;
+    private final ItemService itemService;
+
+    @MockBean
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void createReadOnlyReplicaUser() {
+        jdbcTemplate.execute("create user if not exists replica password 'replica'");
+        jdbcTemplate.execute("grant select on schema public to replica");
+    }
+
+    @Test
+    void writeAfterReplicaReadInOpenEntityManagerGoesToPrimary() {
+        UserDto owner = userService.create(UserDto.builder().name("Owner").email("owner@mail.ru").build());
+        userCache.evict(owner.getId());
+        replicaRoutingDataSource.updateLag("replica-0", Duration.ZERO, Instant.now());
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertTrue(itemService.findAllOwned(owner.getId()).isEmpty());
+            ItemDto item = itemService.create(ItemDto.builder()
+                    .name("Дрель")
+                    .description("Ударная")
+                    .available(true)
+                    .build(), owner);
+
+            assertNotNull(item.getId());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+        HikariDataSource replica = (HikariDataSource) replicaRoutingDataSource.getReplicas().get("replica-0");
+        assertNotNull(replica.getHikariPoolMXBean(), "Чтение предметов не было направлено на реплику");
+    }
+}
@@ -250,7 +250,7 @@ class BookingControllerTest {
                 LocalDateTime.now().plusDays(3),
                 LocalDateTime.now().plusDays(4));
 
-        when(bookingService.findAllByBookerAndState(BookingState.ALL, 2L))
+        when(bookingService.findAllByBookerAndState(BookingState.ALL, 2L, null, null))
                 .thenReturn(List.of(booking1, booking2));
         when(userService.findById(anyLong())).thenReturn(any());
 
@@ -271,7 +271,7 @@ class BookingControllerTest {
                 LocalDateTime.now().plusDays(3),
                 LocalDateTime.now().plusDays(4));
 
-        when(bookingService.findAllByOwnerAndState(BookingState.ALL, 1L))
+        when(bookingService.findAllByOwnerAndState(BookingState.ALL, 1L, null, null))
                 .thenReturn(List.of(booking1, booking2));
         when(userService.findById(anyLong())).thenReturn(any());
 
@@ -282,6 +282,26 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getBookingsPageForOwnerShouldPassCursorAndSize() throws Exception {
+        Long ownerId = 1L;
+        BookingOutDto booking = createBookingOutDto(2L, 2L, 3L,
+                LocalDateTime.now().plusDays(3),
+                LocalDateTime.now().plusDays(4));
+
+        when(bookingService.findAllByOwnerAndState(BookingState.FUTURE, ownerId, 5L, 1))
+                .thenReturn(List.of(booking));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", ownerId)
+                        .param("state", "FUTURE")
+                        .param("after", "5")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2L));
+    }
+
     private BookingInDto createBookingInDto(Long itemId, LocalDateTime start, LocalDateTime end) {
         return BookingInDto.builder()
                 .itemId(itemId)
@@ -1,22 +1,31 @@
 
 package ru.practicum.shareit.core.booking;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.ShareItApp;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingInDto;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingView;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingQuery;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
 import ru.practicum.shareit.core.item.ItemController;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
 import ru.practicum.shareit.core.user.UserController;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.exception.ConditionsNotMetException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,13 +46,22 @@ class BookingIntegrationTest {
     @Autowired
     private BookingController bookingController;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     void bookingControllerCreatesCorrectBooking() {
         UserDto userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -55,6 +73,81 @@ class BookingIntegrationTest {
         assertEquals(userId, resultBookingDto.getBooker().getId(), "Контроллер бронирований создал неверную бронь");
     }
 
+    @Test
+    void bookingControllerListsBookingsWithSingleStatement() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        UserDto booker = userController.create(getUserDto(userCount));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            bookingController.create(getBookingDto(itemDto, start.plusDays(i), start.plusDays(i).plusHours(1)),
+                    booker.getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookingOutDto> bookings = bookingController.findAllByBookerAndState(BookingState.ALL, null, null,
+                booker.getId());
+
+        assertEquals(3, bookings.size());
+        assertEquals(itemDto.getName(), bookings.getFirst().getItem().getName());
+        assertEquals(booker.getName(), bookings.getFirst().getBooker().getName());
+        assertEquals(1, statistics.getPrepareStatementCount(), "Бронирования загружены не одним запросом");
+    }
+
+    @Test
+    void bookingRepositoryPagesCountsAndStreamsSameQuery() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        UserDto booker = userController.create(getUserDto(userCount));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            bookingController.create(getBookingDto(itemDto, start.plusDays(i), start.plusDays(i).plusHours(1)),
+                    booker.getId());
+        }
+        BookingQuery query = new BookingQuery(BookingRole.OWNER, owner.getId(), BookingState.FUTURE,
+                LocalDateTime.now());
+
+        List<BookingOutDto> firstPage = bookingController.findAllByOwnerAndState(BookingState.FUTURE, null, 2,
+                owner.getId());
+        List<BookingOutDto> secondPage = bookingController.findAllByOwnerAndState(BookingState.FUTURE,
+                firstPage.getLast().getId(), 2, owner.getId());
+        List<Long> streamed = transactionTemplate.execute(status -> {
+            try (Stream<BookingView> bookings = bookingRepository.streamAllByQuery(query)) {
+                return bookings.map(BookingView::getId).toList();
+            }
+        });
+
+        assertEquals(3, bookingRepository.countByQuery(query));
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertEquals(List.of(firstPage.get(0).getId(), firstPage.get(1).getId(), secondPage.getFirst().getId()),
+                streamed);
+    }
+
+    @Test
+    void bookingControllerRejectsOverlappingBooking() {
+        UserDto userDto = getUserDto(userCount);
+        userDto = userController.create(userDto);
+
+        ItemDto itemDto = getItemDto(itemCount);
+        itemDto = itemController.create(itemDto, userDto);
+
+        userDto = getUserDto(userCount);
+        userDto = userController.create(userDto);
+        Long userId = userDto.getId();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingController.create(getBookingDto(itemDto, start, start.plusDays(2)), userId);
+
+        BookingInDto overlapping = getBookingDto(itemDto, start.plusDays(1), start.plusDays(3));
+        assertThrows(ConditionsNotMetException.class, () -> bookingController.create(overlapping, userId),
+                "Контроллер бронирований допустил пересекающуюся бронь");
+
+        BookingOutDto adjacent = bookingController.create(getBookingDto(itemDto, start.plusDays(2), start.plusDays(3)), userId);
+        assertEquals(BookingStatus.WAITING, adjacent.getStatus(), "Контроллер бронирований отклонил соседнюю бронь");
+    }
+
     @Test
     void bookingControllerAcceptsBookingCorrectly() {
         UserDto userDto = getUserDto(userCount);
@@ -62,7 +155,7 @@ class BookingIntegrationTest {
         Long ownerId = userDto.getId();
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -81,7 +174,7 @@ class BookingIntegrationTest {
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -101,7 +194,7 @@ class BookingIntegrationTest {
         Long ownerId = userDto.getId();
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -121,13 +214,13 @@ class BookingIntegrationTest {
         Long ownerId = userDto.getId();
 
         ItemDto item1 = getItemDto(itemCount);
-        item1 = itemController.create(item1, userDto.getId());
+        item1 = itemController.create(item1, userDto);
 
         ItemDto item2 = getItemDto(itemCount);
-        item2 = itemController.create(item2, userDto.getId());
+        item2 = itemController.create(item2, userDto);
 
         ItemDto item3 = getItemDto(itemCount);
-        item3 = itemController.create(item3, userDto.getId());
+        item3 = itemController.create(item3, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -143,7 +236,7 @@ class BookingIntegrationTest {
         resultBookingDto2 = bookingController.updateStatus(resultBookingDto2.getId(), ownerId, false);
 
         // Текущее бронирование (CURRENT)
-        BookingInDto bookingDto3 = getBookingDto(item1, LocalDateTime.of(2023, 1, 1, 10, 0), LocalDateTime.of(2030, 1, 2, 12, 0));
+        BookingInDto bookingDto3 = getBookingDto(item1, LocalDateTime.of(2023, 1, 2, 12, 0), LocalDateTime.of(2030, 1, 2, 12, 0));
         BookingOutDto resultBookingDto3 = bookingController.create(bookingDto3, userId);
         resultBookingDto3 = bookingController.updateStatus(resultBookingDto3.getId(), ownerId, true);
 
@@ -155,30 +248,44 @@ class BookingIntegrationTest {
         BookingInDto bookingDto5 = getBookingDto(item3, LocalDateTime.of(2030, 2, 1, 10, 0), LocalDateTime.of(2030, 2, 5, 12, 0));
         BookingOutDto resultBookingDto5 = bookingController.create(bookingDto5, userId);
 
-        List<BookingOutDto> bookingList = bookingController.findAllByBookerAndState(BookingState.ALL, userId);
+        List<BookingOutDto> bookingList = bookingController.findAllByBookerAndState(BookingState.ALL, null, null, userId);
         assertEquals(5, bookingList.size());
 
-        bookingList = bookingController.findAllByBookerAndState(BookingState.WAITING, userId);
+        bookingList = bookingController.findAllByBookerAndState(BookingState.WAITING, null, null, userId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto5.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByBookerAndState(BookingState.REJECTED, userId);
+        bookingList = bookingController.findAllByBookerAndState(BookingState.REJECTED, null, null, userId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto2.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByBookerAndState(BookingState.PAST, userId);
+        bookingList = bookingController.findAllByBookerAndState(BookingState.PAST, null, null, userId);
         assertEquals(2, bookingList.size());
         assertEquals(resultBookingDto2.getId(), bookingList.getFirst().getId());
         assertEquals(resultBookingDto1.getId(), bookingList.get(1).getId());
 
-        bookingList = bookingController.findAllByBookerAndState(BookingState.CURRENT, userId);
+        bookingList = bookingController.findAllByBookerAndState(BookingState.CURRENT, null, null, userId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto3.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByBookerAndState(BookingState.FUTURE, userId);
+        bookingList = bookingController.findAllByBookerAndState(BookingState.FUTURE, null, null, userId);
         assertEquals(2, bookingList.size());
         assertEquals(resultBookingDto5.getId(), bookingList.getFirst().getId());
         assertEquals(resultBookingDto4.getId(), bookingList.get(1).getId());
+
+        bookingList = bookingController.findAllByBookerAndState(BookingState.FUTURE, null, 1, userId);
+        assertEquals(1, bookingList.size());
+        assertEquals(resultBookingDto5.getId(), bookingList.getFirst().getId());
+        bookingList = bookingController.findAllByBookerAndState(BookingState.FUTURE, bookingList.getFirst().getId(), 1, userId);
+        assertEquals(1, bookingList.size());
+        assertEquals(resultBookingDto4.getId(), bookingList.getFirst().getId());
+
+        List<BookingOutDto> allBookings = bookingController.findAllByBookerAndState(BookingState.ALL, null, null, userId);
+        List<BookingOutDto> firstPage = bookingController.findAllByBookerAndState(BookingState.ALL, null, 3, userId);
+        List<BookingOutDto> secondPage = bookingController.findAllByBookerAndState(BookingState.ALL,
+                firstPage.getLast().getId(), 3, userId);
+        assertEquals(allBookings.subList(0, 3), firstPage);
+        assertEquals(allBookings.subList(3, 5), secondPage);
     }
 
     @Test
@@ -188,20 +295,20 @@ class BookingIntegrationTest {
         Long ownerId = userDto.getId();
 
         ItemDto item1 = getItemDto(itemCount);
-        item1 = itemController.create(item1, userDto.getId());
+        item1 = itemController.create(item1, userDto);
 
         ItemDto item2 = getItemDto(itemCount);
-        item2 = itemController.create(item2, userDto.getId());
+        item2 = itemController.create(item2, userDto);
 
         ItemDto item3 = getItemDto(itemCount);
-        item3 = itemController.create(item3, userDto.getId());
+        item3 = itemController.create(item3, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
         Long otherOwner = userDto.getId();
 
         ItemDto item4 = getItemDto(itemCount);
-        item4 = itemController.create(item4, otherOwner);
+        item4 = itemController.create(item4, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -217,7 +324,7 @@ class BookingIntegrationTest {
         resultBookingDto2 = bookingController.updateStatus(resultBookingDto2.getId(), ownerId, false);
 
         // Текущее бронирование (CURRENT)
-        BookingInDto bookingDto3 = getBookingDto(item1, LocalDateTime.of(2023, 1, 1, 10, 0), LocalDateTime.of(2030, 1, 2, 12, 0));
+        BookingInDto bookingDto3 = getBookingDto(item1, LocalDateTime.of(2023, 1, 2, 12, 0), LocalDateTime.of(2030, 1, 2, 12, 0));
         BookingOutDto resultBookingDto3 = bookingController.create(bookingDto3, userId);
         resultBookingDto3 = bookingController.updateStatus(resultBookingDto3.getId(), ownerId, true);
 
@@ -234,27 +341,27 @@ class BookingIntegrationTest {
         BookingOutDto resultBookingDto6 = bookingController.create(bookingDto6, userId);
         bookingController.updateStatus(resultBookingDto6.getId(), otherOwner, true);
 
-        List<BookingOutDto> bookingList = bookingController.findAllByOwnerAndState(BookingState.ALL, ownerId);
+        List<BookingOutDto> bookingList = bookingController.findAllByOwnerAndState(BookingState.ALL, null, null, ownerId);
         assertEquals(5, bookingList.size());
 
-        bookingList = bookingController.findAllByOwnerAndState(BookingState.WAITING, ownerId);
+        bookingList = bookingController.findAllByOwnerAndState(BookingState.WAITING, null, null, ownerId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto5.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByOwnerAndState(BookingState.REJECTED, ownerId);
+        bookingList = bookingController.findAllByOwnerAndState(BookingState.REJECTED, null, null, ownerId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto2.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByOwnerAndState(BookingState.PAST, ownerId);
+        bookingList = bookingController.findAllByOwnerAndState(BookingState.PAST, null, null, ownerId);
         assertEquals(2, bookingList.size());
         assertEquals(resultBookingDto2.getId(), bookingList.getFirst().getId());
         assertEquals(resultBookingDto1.getId(), bookingList.get(1).getId());
 
-        bookingList = bookingController.findAllByOwnerAndState(BookingState.CURRENT, ownerId);
+        bookingList = bookingController.findAllByOwnerAndState(BookingState.CURRENT, null, null, ownerId);
         assertEquals(1, bookingList.size());
         assertEquals(resultBookingDto3.getId(), bookingList.getFirst().getId());
 
-        bookingList = bookingController.findAllByOwnerAndState(BookingState.FUTURE, ownerId);
+        bookingList = bookingController.findAllByOwnerAndState(BookingState.FUTURE, null, null, ownerId);
         assertEquals(2, bookingList.size());
         assertEquals(resultBookingDto5.getId(), bookingList.getFirst().getId());
         assertEquals(resultBookingDto4.getId(), bookingList.get(1).getId());
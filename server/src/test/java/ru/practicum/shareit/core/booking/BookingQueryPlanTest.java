@@ -0,0 +1,213 @@
+package ru.practicum.shareit.core.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingQuery;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ShareItApp.class, properties = "spring.datasource.url=jdbc:h2:mem:booking-query-plan")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BookingQueryPlanTest.StatementRecorderConfig.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class BookingQueryPlanTest {
+    private static final int USERS = 100;
+    private static final int ITEMS = 1_000;
+    private static final int BOOKINGS = 20_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final BookingRepository bookingRepository;
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("select count(*) from bookings", Integer.class) > 0) {
+            return;
+        }
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{"User" + i, "plan" + i + "@mail.ru"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (name, email) values (?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= ITEMS; i++) {
+            items.add(new Object[]{"Item" + i, "Description" + i, true, i % USERS + 1});
+        }
+        jdbcTemplate.batchUpdate("insert into items (name, description, available, owner_id) values (?, ?, ?, ?)", items);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String[] statuses = {"WAITING", "APPROVED", "REJECTED", "APPROVED"};
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 1; i <= BOOKINGS; i++) {
+            LocalDateTime start = base.plusHours(i);
+            bookings.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(2)),
+                    i % ITEMS + 1, i % USERS + 1, statuses[i % statuses.length]});
+        }
+        jdbcTemplate.batchUpdate("insert into bookings (start_date, end_date, item_id, booker_id, status) " +
+                "values (?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void bookerQueriesUseIndexes() {
+        for (BookingState state : BookingState.values()) {
+            explain(() -> bookingRepository.findAllByQuery(
+                    new BookingQuery(BookingRole.BOOKER, 7L, state, NOW), null, Limit.of(20)));
+        }
+        assertUsesIndex("IDX_BOOKINGS_BOOKER_START", explain(() -> bookingRepository.findAllByQuery(
+                new BookingQuery(BookingRole.BOOKER, 7L, BookingState.FUTURE, NOW), null, Limit.of(20))));
+    }
+
+    @Test
+    void ownerQueriesUseIndexes() {
+        for (BookingState state : BookingState.values()) {
+            explain(() -> bookingRepository.findAllByQuery(
+                    new BookingQuery(BookingRole.OWNER, 7L, state, NOW), null, Limit.of(20)));
+        }
+    }
+
+    @Test
+    void itemQueriesUseIndexes() {
+        assertUsesIndex("IDX_BOOKINGS_ITEM_START",
+                explain(() -> bookingRepository.findLastAndNextByItemIdIn(List.of(7L, 8L), NOW)));
+        assertUsesIndex("IDX_BOOKINGS_ITEM_END",
+                explain(() -> bookingRepository.findByItemIdAndBookerIdAndEndBefore(7L, 8L, NOW)));
+        assertUsesIndex("IDX_BOOKINGS_ITEM_START",
+                explain(() -> bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(7L,
+                        BookingStatus.ACTIVE, NOW.plusDays(30), NOW)));
+    }
+
+    private String explain(Runnable repositoryCall) {
+        StatementRecorder recorder = (StatementRecorder) dataSource;
+        List<RecordedStatement> statements = recorder.record(repositoryCall);
+        assertFalse(statements.isEmpty(), "Репозиторий не выполнил ни одного запроса");
+        StringBuilder plans = new StringBuilder();
+        for (RecordedStatement statement : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("explain " + statement.sql(), String.class,
+                    statement.parameters().values().toArray()));
+            assertFalse(plan.contains(".tableScan"), "Запрос выполняется полным сканированием таблицы:\n" + plan);
+            plans.append(plan).append('\n');
+        }
+        return plans.toString();
+    }
+
+    private void assertUsesIndex(String index, String plan) {
+        assertTrue(plan.contains(index), "Запрос не использует индекс " + index + ":\n" + plan);
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+        @Bean
+        static BeanPostProcessor statementRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target ? new StatementRecorder(target) : bean;
+                }
+            };
+        }
+    }
+
+    record RecordedStatement(String sql, Map<Integer, Object> parameters) {
+    }
+
+    static class StatementRecorder extends DelegatingDataSource {
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        StatementRecorder(DataSource target) {
+            super(target);
+        }
+
+        List<RecordedStatement> record(Runnable action) {
+            statements.clear();
+            recording = true;
+            try {
+                action.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return connection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return connection(super.getConnection(username, password));
+        }
+
+        private Connection connection(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) -> {
+                if (recording && method.getName().equals("prepareStatement")
+                        && result instanceof PreparedStatement statement) {
+                    return statement(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement statement(PreparedStatement target, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            statements.add(new RecordedStatement(sql, parameters));
+            return proxy(PreparedStatement.class, target, (method, args, result) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer index) {
+                    parameters.put(index, args[1]);
+                }
+                return result;
+            });
+        }
+
+        private interface Interceptor {
+            Object after(Method method, Object[] args, Object result);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        try {
+                            return interceptor.after(method, args, method.invoke(target, args));
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }));
+        }
+    }
+}
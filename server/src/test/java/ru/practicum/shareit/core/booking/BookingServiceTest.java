@@ -1,21 +1,33 @@
 package ru.practicum.shareit.core.booking;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.core.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingInDto;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingView;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingCursor;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingEventRepository;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingQuery;
 import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -30,11 +42,20 @@ class BookingServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
     @Mock
     private ItemRepository itemRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserService userService;
+
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+
+    @Mock
+    private OwnerItemSummaryUpdater ownerItemSummaryUpdater;
 
     @InjectMocks
     private BookingServiceImpl bookingService;
@@ -80,6 +101,28 @@ class BookingServiceTest {
                 .build();
     }
 
+    private List<BookingView> toViews(List<Booking> bookings) {
+        return bookings.stream()
+                .map(booking -> BookingView.builder()
+                        .id(booking.getId())
+                        .start(booking.getStart())
+                        .end(booking.getEnd())
+                        .status(booking.getStatus())
+                        .itemId(booking.getItem().getId())
+                        .itemName(booking.getItem().getName())
+                        .itemDescription(booking.getItem().getDescription())
+                        .itemAvailable(booking.getItem().getAvailable())
+                        .bookerId(booking.getBooker().getId())
+                        .bookerName(booking.getBooker().getName())
+                        .bookerEmail(booking.getBooker().getEmail())
+                        .build())
+                .toList();
+    }
+
+    private BookingQuery query(BookingRole role, BookingState state) {
+        return argThat(query -> query.role() == role && query.state() == state && query.now() != null);
+    }
+
     @Test
     void createShouldCreateBookingWhenAllConditionsMet() {
         Long userId = 1L;
@@ -90,9 +133,7 @@ class BookingServiceTest {
         Booking booking = createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1));
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(booker));
-        when(bookingRepository.findByItemIdAndEndIsAfterAndStartIsBefore(anyLong(), any(), any()))
-                .thenReturn(Optional.empty());
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
         when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(booking);
 
         BookingOutDto result = bookingService.create(bookingDto, userId);
@@ -102,8 +143,58 @@ class BookingServiceTest {
         assertEquals(item.getId(), result.getItem().getId());
         assertEquals(booker.getId(), result.getBooker().getId());
         verify(itemRepository).findById(anyLong());
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
         verify(bookingRepository).saveAndFlush(any(Booking.class));
+        verify(bookingIntervalIndex).update(booking);
+        verify(ownerItemSummaryUpdater).expire(item.getId());
+        verify(bookingEventRepository).save(argThat(event -> event.getType() == BookingEventType.CREATED
+                && event.getBookingId().equals(booking.getId()) && event.getItemId().equals(item.getId())
+                && event.getBookerId().equals(booker.getId())));
+    }
+
+    @Test
+    void createShouldThrowWhenIndexReportsOverlap() {
+        Long userId = 1L;
+        User booker = createUser(userId, "Booker", "booker@email.com");
+        User owner = createUser(2L, "Owner", "owner@email.com");
+        Item item = createItem(1L, "Item", owner, true);
+        BookingInDto bookingDto = createBookingInDtoBuilder().build();
+
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
+        when(bookingIntervalIndex.isOverlapping(item.getId(), bookingDto.getStart(), bookingDto.getEnd()))
+                .thenReturn(true);
+        when(bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.ACTIVE, bookingDto.getEnd(), bookingDto.getStart()))
+                .thenReturn(List.of(new BookingPeriodDto(5L, item.getId(), bookingDto.getStart(), bookingDto.getEnd())));
+
+        assertThrows(ConditionsNotMetException.class, () -> bookingService.create(bookingDto, userId));
+        verify(bookingRepository, never()).saveAndFlush(any());
+        verify(bookingIntervalIndex, never()).update(any());
+        verifyNoInteractions(bookingEventRepository);
+    }
+
+    @Test
+    void createShouldIgnoreIndexOverlapMissingInDatabase() {
+        Long userId = 1L;
+        User booker = createUser(userId, "Booker", "booker@email.com");
+        User owner = createUser(2L, "Owner", "owner@email.com");
+        Item item = createItem(1L, "Item", owner, true);
+        BookingInDto bookingDto = createBookingInDtoBuilder().build();
+        Booking booking = createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1));
+
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
+        when(bookingIntervalIndex.isOverlapping(item.getId(), bookingDto.getStart(), bookingDto.getEnd()))
+                .thenReturn(true);
+        when(bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.ACTIVE, bookingDto.getEnd(), bookingDto.getStart())).thenReturn(List.of());
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(booking);
+
+        BookingOutDto result = bookingService.create(bookingDto, userId);
+
+        assertEquals(booking.getId(), result.getId());
+        verify(bookingIntervalIndex).update(booking);
     }
 
     @Test
@@ -115,7 +206,7 @@ class BookingServiceTest {
 
         assertThrows(NotFoundException.class, () -> bookingService.create(bookingDto, userId));
         verify(itemRepository).findById(anyLong());
-        verifyNoInteractions(userRepository, bookingRepository);
+        verifyNoInteractions(userService, bookingRepository);
     }
 
     @Test
@@ -126,11 +217,11 @@ class BookingServiceTest {
         BookingInDto bookingDto = createBookingInDtoBuilder().build();
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userService.findById(userId)).thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThrows(NotFoundException.class, () -> bookingService.create(bookingDto, userId));
         verify(itemRepository).findById(anyLong());
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
         verifyNoInteractions(bookingRepository);
     }
 
@@ -143,11 +234,11 @@ class BookingServiceTest {
         BookingInDto bookingDto = createBookingInDtoBuilder().build();
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(booker));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
 
         assertThrows(ConditionsNotMetException.class, () -> bookingService.create(bookingDto, userId));
         verify(itemRepository).findById(anyLong());
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
     }
 
     @Test
@@ -158,11 +249,11 @@ class BookingServiceTest {
         BookingInDto bookingDto = createBookingInDtoBuilder().build();
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(owner));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(owner));
 
         assertThrows(ConditionsNotMetException.class, () -> bookingService.create(bookingDto, userId));
         verify(itemRepository).findById(anyLong());
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
     }
 
     @Test
@@ -172,18 +263,37 @@ class BookingServiceTest {
         User owner = createUser(2L, "Owner", "owner@email.com");
         Item item = createItem(1L, "Item", owner, true);
         BookingInDto bookingDto = createBookingInDtoBuilder().build();
-        Booking existingBooking = createBooking(1L, booker, item, BookingStatus.APPROVED, future, future.plusDays(1));
+        DataIntegrityViolationException overlap = new DataIntegrityViolationException("overlap",
+                new ConstraintViolationException("overlap", new SQLException("overlap", "23P01"),
+                        "ex_bookings_item_period"));
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(booker));
-        when(bookingRepository.findByItemIdAndEndIsAfterAndStartIsBefore(anyLong(), any(), any()))
-                .thenReturn(Optional.of(existingBooking));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(overlap);
 
-        assertThrows(ConditionsNotMetException.class, () -> bookingService.create(bookingDto, userId));
+        ConditionsNotMetException exception = assertThrows(ConditionsNotMetException.class,
+                () -> bookingService.create(bookingDto, userId));
+        assertEquals("Предмет уже забронирован на это время.", exception.getMessage());
         verify(itemRepository).findById(anyLong());
-        verify(userRepository).findById(userId);
-        verify(bookingRepository).findByItemIdAndEndIsAfterAndStartIsBefore(anyLong(), any(), any());
-        verify(bookingRepository, never()).saveAndFlush(any());
+        verify(userService).findById(userId);
+        verify(bookingRepository).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    void createShouldRethrowOtherIntegrityViolations() {
+        Long userId = 1L;
+        User booker = createUser(userId, "Booker", "booker@email.com");
+        User owner = createUser(2L, "Owner", "owner@email.com");
+        Item item = createItem(1L, "Item", owner, true);
+        BookingInDto bookingDto = createBookingInDtoBuilder().build();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("fk",
+                new ConstraintViolationException("fk", new SQLException("fk", "23503"), "fk_bookings_item"));
+
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(violation);
+
+        assertThrows(DataIntegrityViolationException.class, () -> bookingService.create(bookingDto, userId));
     }
 
     @Test
@@ -206,6 +316,10 @@ class BookingServiceTest {
         assertEquals(booker.getId(), result.getBooker().getId());
         verify(bookingRepository).findById(bookingId);
         verify(bookingRepository).saveAndFlush(booking);
+        verify(bookingIntervalIndex).update(booking);
+        verify(ownerItemSummaryUpdater).expire(item.getId());
+        verify(bookingEventRepository).save(argThat(event -> event.getType() == BookingEventType.APPROVED
+                && event.getBookingId().equals(bookingId)));
     }
 
     @Test
@@ -228,6 +342,7 @@ class BookingServiceTest {
         assertEquals(booker.getId(), result.getBooker().getId());
         verify(bookingRepository).findById(bookingId);
         verify(bookingRepository).saveAndFlush(booking);
+        verify(bookingEventRepository).save(argThat(event -> event.getType() == BookingEventType.REJECTED));
     }
 
     @Test
@@ -269,7 +384,7 @@ class BookingServiceTest {
         Booking booking = createBooking(bookingId, booker, item, BookingStatus.WAITING, future, future.plusDays(1));
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(booker));
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
 
         BookingOutDto result = bookingService.findById(bookingId, userId);
 
@@ -278,7 +393,7 @@ class BookingServiceTest {
         assertEquals(item.getId(), result.getItem().getId());
         assertEquals(booker.getId(), result.getBooker().getId());
         verify(bookingRepository).findById(bookingId);
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
     }
 
     @Test
@@ -292,7 +407,7 @@ class BookingServiceTest {
         Booking booking = createBooking(bookingId, booker, item, BookingStatus.WAITING, future, future.plusDays(1));
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
+        when(userService.findById(ownerId)).thenReturn(UserDtoMapper.toUserDto(owner));
 
         BookingOutDto result = bookingService.findById(bookingId, ownerId);
 
@@ -301,7 +416,7 @@ class BookingServiceTest {
         assertEquals(item.getId(), result.getItem().getId());
         assertEquals(booker.getId(), result.getBooker().getId());
         verify(bookingRepository).findById(bookingId);
-        verify(userRepository).findById(ownerId);
+        verify(userService).findById(ownerId);
     }
 
     @Test
@@ -317,11 +432,11 @@ class BookingServiceTest {
         Booking booking = createBooking(bookingId, booker, item, BookingStatus.WAITING, future, future.plusDays(1));
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(userRepository.findById(otherUserId)).thenReturn(Optional.of(otherUser));
+        when(userService.findById(otherUserId)).thenReturn(UserDtoMapper.toUserDto(otherUser));
 
         assertThrows(ConditionsNotMetException.class, () -> bookingService.findById(bookingId, otherUserId));
         verify(bookingRepository).findById(bookingId);
-        verify(userRepository).findById(otherUserId);
+        verify(userService).findById(otherUserId);
     }
 
     @Test
@@ -337,15 +452,16 @@ class BookingServiceTest {
                 createBooking(2L, booker, item, BookingStatus.APPROVED, past, past.plusDays(1))
         );
 
-        when(bookingRepository.findAllByBookerIdOrderByStartAsc(userId)).thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdOrderByStartAsc(userId);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -360,17 +476,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(BookingStatus.WAITING, bookings.get(0).getStatus());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -385,17 +501,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.REJECTED, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(BookingStatus.REJECTED, bookings.get(0).getStatus());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -410,17 +526,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.APPROVED, past, past.plusHours(1))
         );
 
-        when(bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(bookings.get(0).getEnd().isBefore(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -435,11 +551,10 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.APPROVED, past, future)
         );
 
-        when(bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -447,8 +562,7 @@ class BookingServiceTest {
         assertTrue(bookings.get(0).getEnd().isAfter(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -463,17 +577,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(bookings.get(0).getStart().isAfter(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByBookerIdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.BOOKER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -489,15 +603,16 @@ class BookingServiceTest {
                 createBooking(2L, booker, item, BookingStatus.APPROVED, past, past.plusDays(1))
         );
 
-        when(bookingRepository.findAllByItemOwnerIdOrderByStartAsc(userId)).thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdOrderByStartAsc(userId);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -512,17 +627,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(BookingStatus.WAITING, bookings.get(0).getStatus());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -537,17 +652,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.REJECTED, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(BookingStatus.REJECTED, bookings.get(0).getStatus());
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -562,17 +677,17 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.APPROVED, past, past.plusHours(1))
         );
 
-        when(bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(bookings.get(0).getEnd().isBefore(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(eq(userId), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -587,11 +702,10 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.APPROVED, past, future)
         );
 
-        when(bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -599,8 +713,7 @@ class BookingServiceTest {
         assertTrue(bookings.get(0).getEnd().isAfter(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
     }
 
     @Test
@@ -615,17 +728,52 @@ class BookingServiceTest {
                 createBooking(1L, booker, item, BookingStatus.WAITING, future, future.plusDays(1))
         );
 
-        when(bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class)))
-                .thenReturn(bookings);
+        when(bookingRepository.findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited())))
+                .thenReturn(toViews(bookings));
 
-        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId);
+        List<BookingOutDto> result = bookingService.findAllByOwnerAndState(state, userId, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(bookings.get(0).getStart().isAfter(LocalDateTime.now()));
         assertEquals(item.getId(), result.get(0).getItem().getId());
         assertEquals(booker.getId(), result.get(0).getBooker().getId());
-        verify(bookingRepository).findAllByItemOwnerIdAndStartAfterOrderByStartDesc(eq(userId), any(LocalDateTime.class));
+        verify(bookingRepository).findAllByQuery(query(BookingRole.OWNER, state), isNull(), eq(Limit.unlimited()));
+    }
+
+    @Test
+    void findAllByBookerAndStateShouldContinueAfterCursorBooking() {
+        Long userId = 1L;
+        User booker = createUser(userId, "Booker", "booker@email.com");
+        Item item = createItem(1L, "Item", createUser(2L, "Owner", "owner@email.com"), true);
+        List<Booking> bookings = List.of(
+                createBooking(3L, booker, item, BookingStatus.WAITING, past, past.plusHours(1))
+        );
+
+        when(bookingRepository.findStartById(5L)).thenReturn(Optional.of(future));
+        when(bookingRepository.findAllByQuery(query(BookingRole.BOOKER, BookingState.WAITING),
+                eq(new BookingCursor(future, 5L)), eq(Limit.of(1))))
+                .thenReturn(toViews(bookings));
+
+        List<BookingOutDto> result = bookingService.findAllByBookerAndState(BookingState.WAITING, userId, 5L, 1);
+
+        assertEquals(1, result.size());
+        assertEquals(3L, result.getFirst().getId());
+    }
+
+    @Test
+    void findAllByOwnerAndStateShouldThrowWhenCursorBookingNotFound() {
+        when(bookingRepository.findStartById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+                () -> bookingService.findAllByOwnerAndState(BookingState.ALL, 1L, 5L, 10));
+    }
+
+    @Test
+    void findAllByOwnerAndStateShouldThrowWhenSizeIsNotPositive() {
+        assertThrows(ConditionsNotMetException.class,
+                () -> bookingService.findAllByOwnerAndState(BookingState.ALL, 1L, null, 0));
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -642,9 +790,7 @@ class BookingServiceTest {
                 .build();
 
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(booker));
-        when(bookingRepository.findByItemIdAndEndIsAfterAndStartIsBefore(anyLong(), any(), any()))
-                .thenReturn(Optional.empty());
+        when(userService.findById(userId)).thenReturn(UserDtoMapper.toUserDto(booker));
 
         assertThrows(ConditionsNotMetException.class, () -> bookingService.create(bookingDto, userId));
     }
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.core.booking.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.core.booking.BookingController;
+import ru.practicum.shareit.core.booking.BookingEventType;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingInDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingEventRepository;
+import ru.practicum.shareit.core.item.ItemController;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
+import ru.practicum.shareit.core.item.persistance.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.core.user.UserController;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.exception.ConditionsNotMetException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ShareItApp.class, properties = "shareit.bookings.events.poll-interval-ms=3600000")
+@AutoConfigureTestDatabase
+@DirtiesContext
+@RecordApplicationEvents
+class BookingEventIntegrationTest {
+
+    @Autowired
+    private UserController userController;
+
+    @Autowired
+    private ItemController itemController;
+
+    @Autowired
+    private BookingController bookingController;
+
+    @Autowired
+    private BookingEventRepository bookingEventRepository;
+
+    @Autowired
+    private BookingEventPublisher bookingEventPublisher;
+
+    @Autowired
+    private OwnerItemSummaryRepository ownerItemSummaryRepository;
+
+    @Test
+    void bookingEventPublisherDeliversCommittedBookingChangesOnce(ApplicationEvents applicationEvents) {
+        UserDto owner = userController.create(getUserDto("owner"));
+        ItemDto itemDto = itemController.create(getItemDto(), owner);
+        UserDto booker = userController.create(getUserDto("booker"));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        BookingOutDto approved = bookingController.create(getBookingDto(itemDto, start, start.plusDays(1)),
+                booker.getId());
+        bookingController.updateStatus(approved.getId(), owner.getId(), true);
+        BookingOutDto rejected = bookingController.create(getBookingDto(itemDto, start.plusDays(2),
+                start.plusDays(3)), booker.getId());
+        bookingController.updateStatus(rejected.getId(), owner.getId(), false);
+        assertThrows(ConditionsNotMetException.class, () -> bookingController.create(
+                getBookingDto(itemDto, start, start.plusDays(1)), booker.getId()));
+
+        assertEquals(4, bookingEventRepository.count());
+        assertEquals(0, applicationEvents.stream(BookingChangedEvent.class).count());
+        assertEquals(OwnerItemSummary.EXPIRED,
+                ownerItemSummaryRepository.findById(itemDto.getId()).orElseThrow().getValidUntil());
+
+        bookingEventPublisher.publishPending();
+        bookingEventPublisher.publishPending();
+
+        List<BookingChangedEvent> events = applicationEvents.stream(BookingChangedEvent.class).toList();
+        assertEquals(List.of(BookingEventType.CREATED, BookingEventType.APPROVED, BookingEventType.CREATED,
+                BookingEventType.REJECTED), events.stream().map(BookingChangedEvent::type).toList());
+        assertEquals(List.of(approved.getId(), approved.getId(), rejected.getId(), rejected.getId()),
+                events.stream().map(BookingChangedEvent::bookingId).toList());
+        assertEquals(itemDto.getId(), events.getFirst().itemId());
+        assertEquals(booker.getId(), events.getFirst().bookerId());
+        assertTrue(bookingEventRepository.findAll().stream().allMatch(event -> event.getPublishedAt() != null));
+
+        OwnerItemSummary summary = ownerItemSummaryRepository.findById(itemDto.getId()).orElseThrow();
+        assertEquals(approved.getId(), summary.getNextBooking().getId());
+        assertTrue(summary.isValidAt(LocalDateTime.now()));
+        assertFalse(summary.isValidAt(start.plusMinutes(1)));
+    }
+
+    private UserDto getUserDto(String name) {
+        return UserDto.builder()
+                .name(name)
+                .email(name + "@mail.ru")
+                .build();
+    }
+
+    private ItemDto getItemDto() {
+        return ItemDto.builder()
+                .name("Дрель")
+                .description("Аккумуляторная дрель")
+                .available(true)
+                .build();
+    }
+
+    private BookingInDto getBookingDto(ItemDto itemDto, LocalDateTime start, LocalDateTime end) {
+        return BookingInDto.builder()
+                .itemId(itemDto.getId())
+                .start(start)
+                .end(end)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.core.booking.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.core.booking.BookingEventType;
+import ru.practicum.shareit.core.booking.persistance.entity.model.BookingEvent;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingEventPublisherTest {
+
+    @Mock
+    private BookingEventRepository bookingEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private BookingEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new BookingEventPublisher(bookingEventRepository, applicationEventPublisher, 2, 24);
+    }
+
+    @Test
+    void publishPendingShouldDispatchBatchInOrderAndMarkPublished() {
+        BookingEvent created = createEvent(1L, BookingEventType.CREATED);
+        BookingEvent approved = createEvent(2L, BookingEventType.APPROVED);
+
+        when(bookingEventRepository.findAllByPublishedAtIsNullOrderById(Limit.of(2)))
+                .thenReturn(List.of(created, approved));
+
+        publisher.publishPending();
+
+        ArgumentCaptor<BookingChangedEvent> captor = ArgumentCaptor.forClass(BookingChangedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(BookingEventType.CREATED, BookingEventType.APPROVED),
+                captor.getAllValues().stream().map(BookingChangedEvent::type).toList());
+        assertEquals(10L, captor.getValue().bookingId());
+        assertNotNull(created.getPublishedAt());
+        assertNotNull(approved.getPublishedAt());
+    }
+
+    @Test
+    void publishPendingShouldStopAtFailedEventAndRetryItLater() {
+        BookingEvent failing = createEvent(1L, BookingEventType.CREATED);
+        BookingEvent next = createEvent(2L, BookingEventType.APPROVED);
+
+        when(bookingEventRepository.findAllByPublishedAtIsNullOrderById(Limit.of(2)))
+                .thenReturn(List.of(failing, next));
+        doThrow(new IllegalStateException("listener")).when(applicationEventPublisher).publishEvent(any(Object.class));
+
+        publisher.publishPending();
+
+        verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
+        assertNull(failing.getPublishedAt());
+        assertNull(next.getPublishedAt());
+    }
+
+    @Test
+    void deletePublishedShouldRemoveEventsOlderThanRetention() {
+        LocalDateTime before = LocalDateTime.now().minusHours(24);
+
+        publisher.deletePublished();
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bookingEventRepository).deleteAllPublishedBefore(captor.capture());
+        assertFalse(captor.getValue().isBefore(before));
+        assertTrue(captor.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+    }
+
+    private BookingEvent createEvent(Long id, BookingEventType type) {
+        return BookingEvent.builder()
+                .id(id)
+                .bookingId(10L)
+                .itemId(20L)
+                .bookerId(30L)
+                .type(type)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .created(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.core.booking.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingIntervalTreeTest {
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void overlapsShouldDetectIntersectingPeriods() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.add(1L, base, base.plusDays(2));
+        tree.add(2L, base.plusDays(5), base.plusDays(6));
+
+        assertTrue(tree.overlaps(base.plusDays(1), base.plusDays(3)));
+        assertTrue(tree.overlaps(base.minusDays(1), base.plusDays(10)));
+        assertTrue(tree.overlaps(base.plusHours(5 * 24 + 1), base.plusHours(5 * 24 + 2)));
+        assertFalse(tree.overlaps(base.plusDays(2), base.plusDays(5)));
+        assertFalse(tree.overlaps(base.minusDays(2), base));
+        assertFalse(tree.overlaps(base.plusDays(6), base.plusDays(7)));
+    }
+
+    @Test
+    void overlapsShouldTreatEndAsExclusive() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.add(1L, base, base.plusDays(1));
+
+        assertTrue(isBookedAt(tree, base));
+        assertTrue(isBookedAt(tree, base.plusHours(23)));
+        assertFalse(isBookedAt(tree, base.plusDays(1)));
+        assertFalse(isBookedAt(tree, base.minusNanos(1)));
+    }
+
+    @Test
+    void removeShouldFreePeriod() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.add(1L, base, base.plusDays(1));
+        tree.add(2L, base, base.plusDays(3));
+
+        tree.remove(2L, base);
+
+        assertEquals(1, tree.size());
+        assertTrue(tree.overlaps(base, base.plusHours(1)));
+        assertFalse(tree.overlaps(base.plusDays(1), base.plusDays(3)));
+
+        tree.remove(1L, base);
+        tree.remove(1L, base);
+
+        assertEquals(0, tree.size());
+        assertFalse(tree.overlaps(base.minusYears(1), base.plusYears(1)));
+    }
+
+    @Test
+    void removeEndedBeforeShouldDropOnlyFinishedPeriods() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        for (int i = 0; i < 10; i++) {
+            tree.add(i, base.plusDays(i), base.plusDays(i + 1));
+        }
+
+        tree.removeEndedBefore(base.plusDays(5));
+
+        assertEquals(5, tree.size());
+        assertFalse(tree.overlaps(base, base.plusDays(5)));
+        assertTrue(isBookedAt(tree, base.plusDays(5)));
+        assertTrue(isBookedAt(tree, base.plusHours(9 * 24 + 23)));
+    }
+
+    @Test
+    void addShouldReplaceEndOfExistingBooking() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.add(1L, base, base.plusDays(1));
+        tree.add(1L, base, base.plusDays(2));
+
+        assertEquals(1, tree.size());
+        assertTrue(isBookedAt(tree, base.plusHours(36)));
+    }
+
+    @Test
+    void overlapsShouldMatchLinearScanAfterRandomUpdates() {
+        Random random = new Random(42);
+        BookingIntervalTree tree = new BookingIntervalTree();
+        List<LocalDateTime[]> periods = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(10_000));
+            periods.add(new LocalDateTime[]{start, start.plusHours(1 + random.nextInt(48))});
+            tree.add(i, start, periods.get(i)[1]);
+        }
+        for (int i = 0; i < 2_000; i += 3) {
+            tree.remove(i, periods.get(i)[0]);
+            periods.set(i, null);
+        }
+
+        for (int query = 0; query < 1_000; query++) {
+            LocalDateTime from = base.plusHours(random.nextInt(10_100));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24));
+            boolean expected = periods.stream()
+                    .anyMatch(period -> period != null && period[0].isBefore(to) && period[1].isAfter(from));
+            assertEquals(expected, tree.overlaps(from, to), "Неверный ответ для периода " + from + " - " + to);
+        }
+    }
+
+    private boolean isBookedAt(BookingIntervalTree tree, LocalDateTime moment) {
+        return tree.overlaps(moment, moment.plusNanos(1));
+    }
+}
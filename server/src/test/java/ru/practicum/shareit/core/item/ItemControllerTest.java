@@ -13,15 +13,20 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.DatePeriodDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.resolver.SharerUserArgumentResolver;
 import ru.practicum.shareit.utils.ErrorHandler;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,14 +50,17 @@ class ItemControllerTest {
         mockMvc = MockMvcBuilders
                 .standaloneSetup(itemController)
                 .setControllerAdvice(new ErrorHandler())
+                .setCustomArgumentResolvers(new SharerUserArgumentResolver(userService))
                 .build();
     }
 
     @Test
     void createItemShouldReturnCreatedItem() throws Exception {
         ItemDto itemDto = getItemDto(1);
+        UserDto userDto = getUserDto(1);
 
-        when(itemService.create(any(), anyLong())).thenReturn(itemDto);
+        when(userService.findById(1L)).thenReturn(userDto);
+        when(itemService.create(any(), eq(userDto))).thenReturn(itemDto);
 
         mockMvc.perform(post("/items")
                         .header("X-Sharer-User-Id", 1L)
@@ -62,6 +70,26 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.id").value(itemDto.getId()));
     }
 
+    @Test
+    void requestShouldLookUpSharerUserOnce() throws Exception {
+        when(userService.findById(1L)).thenReturn(getUserDto(1));
+        when(itemService.findAllOwned(1L)).thenReturn(List.of());
+
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+
+        verify(userService, times(1)).findById(1L);
+    }
+
+    @Test
+    void requestWithoutUserHeaderShouldNotLookUpUser() throws Exception {
+        mockMvc.perform(get("/items"))
+                .andExpect(status().isInternalServerError());
+
+        verifyNoInteractions(userService, itemService);
+    }
+
     @Test
     void findByIdShouldReturnItem() throws Exception {
         ItemDto itemDto = getItemDto(1);
@@ -89,6 +117,40 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.error").value("Предмет не найден"));
     }
 
+    @Test
+    void findAvailabilityShouldReturnFreePeriods() throws Exception {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 10);
+        ItemAvailabilityDto availability = ItemAvailabilityDto.builder()
+                .itemId(1L)
+                .from(from)
+                .to(to)
+                .freePeriods(List.of(new DatePeriodDto(from.plusDays(3), to)))
+                .build();
+
+        when(userService.findById(1L)).thenReturn(getUserDto(1));
+        when(itemService.findAvailability(1L, from, to)).thenReturn(availability);
+
+        mockMvc.perform(get("/items/{id}/availability", 1L)
+                        .param("from", "2030-01-01")
+                        .param("to", "2030-01-10")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freePeriods[0].start").value("2030-01-04"))
+                .andExpect(jsonPath("$.freePeriods[0].end").value("2030-01-10"));
+    }
+
+    @Test
+    void findAvailabilityWithWrongIdShouldReturnNotFound() throws Exception {
+        when(userService.findById(1L)).thenReturn(getUserDto(1));
+        when(itemService.findAvailability(999L, null, null)).thenThrow(new NotFoundException("Предмет не найден"));
+
+        mockMvc.perform(get("/items/{id}/availability", 999L)
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Предмет не найден"));
+    }
+
     @Test
     void findAllOwnedShouldReturnItems() throws Exception {
         UserDto userDto = getUserDto(1);
@@ -182,7 +244,7 @@ class ItemControllerTest {
         ItemDto item1 = getItemDto(1);
 
         when(userService.findById(1L)).thenReturn(userDto);
-        when(itemService.search("SearchItem")).thenReturn(List.of(item1));
+        when(itemService.search("SearchItem", 0, 20)).thenReturn(List.of(item1));
 
         mockMvc.perform(get("/items/search")
                         .param("text", "SearchItem")
@@ -191,12 +253,39 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void searchShouldPassPageParameters() throws Exception {
+        when(userService.findById(1L)).thenReturn(getUserDto(1));
+        when(itemService.search("SearchItem", 10, 5)).thenReturn(List.of(getItemDto(11)));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "SearchItem")
+                        .param("from", "10")
+                        .param("size", "5")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void suggestShouldReturnNames() throws Exception {
+        when(userService.findById(1L)).thenReturn(getUserDto(1));
+        when(itemService.suggest("дре", 10)).thenReturn(List.of("Дрель", "Дрезина"));
+
+        mockMvc.perform(get("/items/search/suggest")
+                        .param("prefix", "дре")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Дрель"))
+                .andExpect(jsonPath("$[1]").value("Дрезина"));
+    }
+
     @Test
     void searchWithEmptyQueryShouldReturnEmptyList() throws Exception {
         UserDto userDto = getUserDto(1);
 
         when(userService.findById(1L)).thenReturn(userDto);
-        when(itemService.search("")).thenReturn(List.of());
+        when(itemService.search("", 0, 20)).thenReturn(List.of());
 
         mockMvc.perform(get("/items/search")
                         .param("text", "")
@@ -211,7 +300,7 @@ class ItemControllerTest {
         UserDto userDto = getUserDto(1);
 
         when(userService.findById(1L)).thenReturn(userDto);
-        when(itemService.createComment(1L, commentDto, 1L)).thenReturn(commentDto);
+        when(itemService.createComment(1L, commentDto, userDto)).thenReturn(commentDto);
 
         mockMvc.perform(post("/items/{id}/comment", 1L)
                         .header("X-Sharer-User-Id", 1L)
@@ -241,7 +330,7 @@ class ItemControllerTest {
         UserDto userDto = getUserDto(1);
 
         when(userService.findById(1L)).thenReturn(userDto);
-        when(itemService.createComment(999L, commentDto, 1L)).thenThrow(new NotFoundException("Предмет не найден"));
+        when(itemService.createComment(999L, commentDto, userDto)).thenThrow(new NotFoundException("Предмет не найден"));
 
         mockMvc.perform(post("/items/{id}/comment", 999L)
                         .header("X-Sharer-User-Id", 1L)
@@ -257,7 +346,7 @@ class ItemControllerTest {
         UserDto userDto = getUserDto(1);
 
         when(userService.findById(1L)).thenReturn(userDto);
-        when(itemService.createComment(1L, commentDto, 1L)).thenThrow(
+        when(itemService.createComment(1L, commentDto, userDto)).thenThrow(
                 new ConditionsNotMetException("Пользователь не арендовал предмет или время аренды еще не вышло"));
 
         mockMvc.perform(post("/items/{id}/comment", 1L)
@@ -1,6 +1,9 @@
 package ru.practicum.shareit.core.item;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -9,12 +12,19 @@ import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.ShareItApp;
 import ru.practicum.shareit.core.booking.BookingController;
 import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingInDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingOutDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.DatePeriodDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
 import ru.practicum.shareit.core.user.UserController;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,25 +45,54 @@ class ItemIntegrationTest {
     @Autowired
     private BookingController bookingController;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void itemControllerCreatesCorrectItem() {
         UserDto userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         assertNotNull(itemDto.getId());
     }
 
+    @Test
+    void itemControllerReadsItemsFromSecondLevelCache() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        itemController.findById(itemDto.getId(), owner);
+        itemController.findById(itemDto.getId(), owner);
+
+        assertTrue(statistics.getDomainDataRegionStatistics(Item.class.getName()).getHitCount() > 0);
+    }
+
+    @Test
+    void itemControllerReadsItemDetailsInSingleTransaction() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        itemController.findById(itemDto.getId(), owner);
+
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(1, statistics.getSessionOpenCount());
+    }
+
     @Test
     void itemControllerFindsItemById() {
         UserDto userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
-        ItemDto foundItemDto = itemController.findById(itemDto.getId(), userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
+        ItemDto foundItemDto = itemController.findById(itemDto.getId(), userDto);
         assertEquals(itemDto.getId(), foundItemDto.getId());
     }
 
@@ -63,13 +102,55 @@ class ItemIntegrationTest {
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemController.create(itemDto, userDto.getId());
+        itemController.create(itemDto, userDto);
         ItemDto itemDto2 = getItemDto(itemCount);
-        itemController.create(itemDto2, userDto.getId());
+        itemController.create(itemDto2, userDto);
         ItemDto itemDto3 = getItemDto(itemCount);
-        itemController.create(itemDto3, userDto.getId());
+        itemController.create(itemDto3, userDto);
+
+        assertEquals(3, itemController.findAllOwned(userDto).size());
+    }
 
-        assertEquals(3, itemController.findAllOwned(userDto.getId()).size());
+    @Test
+    void itemControllerFindsLastAndNextBookingsForOwnedItems() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        UserDto booker = userController.create(getUserDto(userCount));
+        LocalDateTime now = LocalDateTime.now();
+
+        BookingOutDto current = bookingController.create(
+                getBookingDto(itemDto, now.minusDays(1), now.plusDays(1)), booker.getId());
+        bookingController.create(getBookingDto(itemDto, now.plusDays(5), now.plusDays(6)), booker.getId());
+        BookingOutDto next = bookingController.create(
+                getBookingDto(itemDto, now.plusDays(2), now.plusDays(3)), booker.getId());
+
+        ItemDto ownedItem = itemController.findAllOwned(owner).getFirst();
+        assertEquals(current.getId(), ownedItem.getLastBooking().getId());
+        assertEquals(next.getId(), ownedItem.getNextBooking().getId());
+        assertEquals(booker.getName(), ownedItem.getNextBooking().getBooker().getName());
+
+        ItemDto foundItem = itemController.findById(itemDto.getId(), owner);
+        assertEquals(current.getId(), foundItem.getLastBooking().getId());
+        assertEquals(next.getId(), foundItem.getNextBooking().getId());
+    }
+
+    @Test
+    void itemControllerFindsFreePeriodsForItem() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto itemDto = itemController.create(getItemDto(itemCount), owner);
+        UserDto booker = userController.create(getUserDto(userCount));
+        LocalDate from = LocalDate.now().plusDays(10);
+
+        bookingController.create(getBookingDto(itemDto, from.plusDays(2).atTime(12, 0),
+                from.plusDays(4).atStartOfDay()), booker.getId());
+        BookingOutDto rejected = bookingController.create(getBookingDto(itemDto, from.plusDays(6).atStartOfDay(),
+                from.plusDays(7).atStartOfDay()), booker.getId());
+        bookingController.updateStatus(rejected.getId(), owner.getId(), false);
+
+        ItemAvailabilityDto availability = itemController.findAvailability(itemDto.getId(), from, from.plusDays(9),
+                owner);
+        assertEquals(List.of(new DatePeriodDto(from, from.plusDays(1)),
+                new DatePeriodDto(from.plusDays(4), from.plusDays(9))), availability.getFreePeriods());
     }
 
     @Test
@@ -78,11 +159,11 @@ class ItemIntegrationTest {
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
         itemDto.setName("Item9999");
         itemDto.setDescription("Desc9999");
         itemDto.setAvailable(false);
-        ItemDto updatedItemDto = itemController.update(itemDto.getId(), itemDto, userDto.getId());
+        ItemDto updatedItemDto = itemController.update(itemDto.getId(), itemDto, userDto);
         assertEquals(itemDto, updatedItemDto);
     }
 
@@ -93,23 +174,79 @@ class ItemIntegrationTest {
 
         ItemDto itemDto = getItemDto(itemCount);
         itemDto.setName("SearchItem");
-        itemController.create(itemDto, userDto.getId());
+        itemController.create(itemDto, userDto);
 
         ItemDto itemDto2 = getItemDto(itemCount);
         itemDto2.setDescription("SearchItemDescription");
-        itemController.create(itemDto2, userDto.getId());
+        itemController.create(itemDto2, userDto);
 
         ItemDto itemDto3 = getItemDto(itemCount);
         itemDto3.setDescription("SearchItem");
         itemDto3.setDescription("SearchItemDescription");
         itemDto3.setAvailable(false);
-        itemController.create(itemDto3, userDto.getId());
+        itemController.create(itemDto3, userDto);
 
         ItemDto itemDto4 = getItemDto(itemCount);
-        itemController.create(itemDto4, userDto.getId());
+        itemController.create(itemDto4, userDto);
+
+        assertEquals(2, itemController.search("SearchItem", 0, 20, userDto).size(), "Неверное количество найденных вещей");
+
+    }
+
+    @Test
+    void itemControllerRanksNameMatchesFirst() {
+        UserDto userDto = userController.create(getUserDto(userCount));
+
+        ItemDto byDescription = getItemDto(itemCount);
+        byDescription.setDescription("Аккумуляторная дрель");
+        byDescription = itemController.create(byDescription, userDto);
+
+        ItemDto byName = getItemDto(itemCount);
+        byName.setName("Дрель ударная");
+        byName = itemController.create(byName, userDto);
+
+        List<ItemDto> found = itemController.search("дрель", 0, 20, userDto);
+        assertEquals(List.of(byName.getId(), byDescription.getId()), found.stream().map(ItemDto::getId).toList(),
+                "Совпадения по названию должны идти первыми");
+    }
+
+    @Test
+    void itemControllerPagesSearchResults() {
+        UserDto userDto = userController.create(getUserDto(userCount));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ItemDto itemDto = getItemDto(itemCount);
+            itemDto.setName("Палатка " + i);
+            ids.add(itemController.create(itemDto, userDto).getId());
+        }
+
+        List<ItemDto> page = itemController.search("палатка", 2, 2, userDto);
+        assertEquals(ids.subList(2, 4), page.stream().map(ItemDto::getId).toList(), "Неверная страница результатов");
+        assertEquals(1, itemController.search("палатка", 4, 2, userDto).size());
+        assertEquals(ids.subList(1, 3), itemController.search("палатка", 1, 2, userDto).stream()
+                .map(ItemDto::getId)
+                .toList(), "Смещение не кратное размеру страницы должно учитываться");
+    }
+
+    @Test
+    void itemControllerSuggestsNamesOfCreatedAndUpdatedItems() {
+        UserDto userDto = userController.create(getUserDto(userCount));
+
+        ItemDto drill = getItemDto(itemCount);
+        drill.setName("Дрель");
+        drill = itemController.create(drill, userDto);
+
+        ItemDto tent = getItemDto(itemCount);
+        tent.setName("Дрезина");
+        itemController.create(tent, userDto);
+
+        assertEquals(List.of("Дрезина", "Дрель"), itemController.suggest("дре", 10, userDto));
 
-        assertEquals(2, itemController.search("SearchItem", userDto.getId()).size(), "Неверное количество найденных вещей");
+        ItemDto rename = ItemDto.builder().name("Перфоратор").build();
+        itemController.update(drill.getId(), rename, userDto);
 
+        assertEquals(List.of("Дрезина"), itemController.suggest("дре", 10, userDto));
+        assertEquals(List.of("Перфоратор"), itemController.suggest("перф", 10, userDto));
     }
 
     @Test
@@ -118,7 +255,7 @@ class ItemIntegrationTest {
         userDto = userController.create(userDto);
 
         ItemDto itemDto = getItemDto(itemCount);
-        itemDto = itemController.create(itemDto, userDto.getId());
+        itemDto = itemController.create(itemDto, userDto);
 
         userDto = getUserDto(userCount);
         userDto = userController.create(userDto);
@@ -128,7 +265,7 @@ class ItemIntegrationTest {
 
         CommentDto commentDto = getCommentDto("Comment");
 
-        CommentDto resultCommentDto = itemController.createComment(itemDto.getId(), commentDto, userDto.getId());
+        CommentDto resultCommentDto = itemController.createComment(itemDto.getId(), commentDto, userDto);
         assertEquals(commentDto.getText(), resultCommentDto.getText());
         assertEquals(userDto.getName(), resultCommentDto.getAuthorName());
     }
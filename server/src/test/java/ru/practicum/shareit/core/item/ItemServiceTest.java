@@ -5,23 +5,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.core.booking.BookingStatus;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingPeriodDto;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
 import ru.practicum.shareit.core.booking.persistance.entity.model.Booking;
 import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
 import ru.practicum.shareit.core.item.persistance.entity.dto.*;
 import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
 import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
 import ru.practicum.shareit.core.item.persistance.repository.CommentRepository;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.persistance.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.core.item.search.ItemNameSuggester;
+import ru.practicum.shareit.core.item.search.ItemSearchCache;
+import ru.practicum.shareit.core.item.search.ItemSearchEngine;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.utils.OffsetPageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,9 +45,6 @@ class ItemServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private BookingRepository bookingRepository;
 
@@ -45,26 +54,127 @@ class ItemServiceTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+
+    @Mock
+    private ItemSearchCache itemSearchCache;
+
+    @Mock
+    private ItemNameSuggester itemNameSuggester;
+
+    @Mock
+    private OwnerItemSummaryRepository ownerItemSummaryRepository;
+
+    @Mock
+    private OwnerItemSummaryUpdater ownerItemSummaryUpdater;
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
     @Test
-    void findAllOwnedShouldReturnItemsWithBookingsAndComments() {
+    void findAllOwnedShouldReadValidSummariesWithoutResolving() {
         Long ownerId = 1L;
+        LocalDateTime now = LocalDateTime.now();
         User owner = createUser(ownerId);
         Item item1 = createItem(1L, owner);
         Item item2 = createItem(2L, owner);
+        BookingShortDto next = createBookingShortDto(1L, item1, now.plusDays(1), now.plusDays(2));
+        OwnerItemSummary summary1 = createSummary(item1, now.plusDays(1));
+        summary1.setNextBooking(next);
+        summary1.setCommentCount(12);
+        summary1.setLatestComments(List.of(CommentDtoMapper.toCommentDto(createComment(item1))));
+        OwnerItemSummary summary2 = createSummary(item2, null);
 
-        when(itemRepository.findAllByOwnerId(ownerId)).thenReturn(List.of(item1, item2));
-        when(bookingRepository.findAllByItemOwnerIdOrderByStartAsc(ownerId))
-                .thenReturn(List.of(createBooking(item1), createBooking(item2)));
-        when(commentRepository.findAllByItemIdIn(anyList()))
-                .thenReturn(List.of(createComment(item1), createComment(item2)));
+        when(ownerItemSummaryRepository.findAllByOwnerIdOrderByItemId(ownerId))
+                .thenReturn(List.of(summary1, summary2));
 
         List<ItemDto> result = itemService.findAllOwned(ownerId);
 
-        assertEquals(2, result.size());
-        verify(itemRepository).findAllByOwnerId(ownerId);
+        assertEquals(List.of(1L, 2L), result.stream().map(ItemDto::getId).toList());
+        assertEquals(next.getId(), result.get(0).getNextBooking().getId());
+        assertEquals(12, result.get(0).getCommentCount());
+        assertEquals(1, result.get(0).getComments().size());
+        assertTrue(result.get(1).getComments().isEmpty());
+        verifyNoInteractions(ownerItemSummaryUpdater, itemRepository, bookingRepository, commentRepository);
+    }
+
+    @Test
+    void findAvailabilityShouldExcludeBookedDays() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 10);
+
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(1L, BookingStatus.ACTIVE,
+                to.plusDays(1).atStartOfDay(), from.atStartOfDay()))
+                .thenReturn(List.of(
+                        new BookingPeriodDto(1L, 1L, from.minusDays(3).atStartOfDay(), from.plusDays(1).atTime(9, 0)),
+                        new BookingPeriodDto(2L, 1L, from.plusDays(4).atTime(18, 0), from.plusDays(6).atStartOfDay())));
+
+        ItemAvailabilityDto result = itemService.findAvailability(1L, from, to);
+
+        assertEquals(from, result.getFrom());
+        assertEquals(to, result.getTo());
+        assertEquals(List.of(new DatePeriodDto(from.plusDays(2), from.plusDays(3)),
+                new DatePeriodDto(from.plusDays(6), to)), result.getFreePeriods());
+    }
+
+    @Test
+    void findAvailabilityShouldDefaultToNinetyDaysFromToday() {
+        LocalDate today = LocalDate.now();
+
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findAllPeriodsByItemIdAndStatusInAndStartBeforeAndEndAfter(anyLong(), anyList(),
+                any(), any())).thenReturn(List.of());
+
+        ItemAvailabilityDto result = itemService.findAvailability(1L, null, null);
+
+        assertEquals(today, result.getFrom());
+        assertEquals(today.plusDays(89), result.getTo());
+        assertEquals(List.of(new DatePeriodDto(today, today.plusDays(89))), result.getFreePeriods());
+    }
+
+    @Test
+    void findAvailabilityShouldThrowWhenItemNotFound() {
+        when(itemRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> itemService.findAvailability(999L, null, null));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void findAvailabilityShouldThrowWhenPeriodIsInvalid() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+
+        when(itemRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(ConditionsNotMetException.class,
+                () -> itemService.findAvailability(1L, from, from.minusDays(1)));
+        assertThrows(ConditionsNotMetException.class,
+                () -> itemService.findAvailability(1L, from, from.plusYears(2)));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void findAllOwnedShouldRefreshExpiredSummaries() {
+        Long ownerId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        User owner = createUser(ownerId);
+        OwnerItemSummary valid = createSummary(createItem(1L, owner), now.plusDays(1));
+        OwnerItemSummary expired = createSummary(createItem(2L, owner), now.minusMinutes(1));
+        OwnerItemSummary backfilled = createSummary(createItem(3L, owner), OwnerItemSummary.EXPIRED);
+        OwnerItemSummary refreshed = createSummary(createItem(3L, owner), null);
+        refreshed.setCommentCount(3);
+
+        when(ownerItemSummaryRepository.findAllByOwnerIdOrderByItemId(ownerId))
+                .thenReturn(List.of(valid, expired, backfilled));
+        when(ownerItemSummaryUpdater.refreshAll(List.of(2L, 3L))).thenReturn(List.of(refreshed));
+
+        List<ItemDto> result = itemService.findAllOwned(ownerId);
+
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(ItemDto::getId).toList());
+        assertEquals(3, result.get(2).getCommentCount());
+        verify(ownerItemSummaryUpdater, never()).resolve(any(), any());
     }
 
     @Test
@@ -75,12 +185,16 @@ class ItemServiceTest {
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         when(commentRepository.findAllByItemId(itemId)).thenReturn(List.of(createComment(item)));
-        when(bookingRepository.findAllByItemIdOrderByStartAsc(itemId)).thenReturn(List.of(createBooking(item)));
+        when(bookingRepository.findLastAndNextByItemIdIn(eq(List.of(itemId)), any()))
+                .thenReturn(List.of(createBookingShortDto(1L, item, LocalDateTime.now().plusDays(1),
+                        LocalDateTime.now().plusDays(2))));
 
         ItemDto result = itemService.findById(itemId);
 
         assertNotNull(result);
         assertEquals(itemId, result.getId());
+        assertEquals(1L, result.getNextBooking().getId());
+        assertEquals(1, result.getComments().size());
     }
 
     @Test
@@ -105,17 +219,20 @@ class ItemServiceTest {
                 .available(true)
                 .build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(owner));
         when(itemRepository.saveAndFlush(any())).thenAnswer(invocation -> {
             Item savedItem = invocation.getArgument(0);
             savedItem.setId(1L);
             return savedItem;
         });
 
-        ItemDto result = itemService.create(itemDto, userId);
+        ItemDto result = itemService.create(itemDto, UserDtoMapper.toUserDto(owner));
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
+        verify(itemSearchEngine).index(argThat(item -> item.getId() == 1L));
+        verify(itemSearchCache).evict(isNull(), argThat(text -> text.getId() == 1L && "Item".equals(text.getName())));
+        verify(itemNameSuggester).update(isNull(), argThat(text -> "Item".equals(text.getName())));
+        verify(ownerItemSummaryUpdater).refresh(argThat(item -> item.getId() == 1L));
     }
 
     @Test
@@ -131,7 +248,6 @@ class ItemServiceTest {
                 .requestId(requestId)
                 .build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(owner));
         when(itemRequestRepository.findById(requestId)).thenReturn(Optional.of(request));
         when(itemRepository.saveAndFlush(any())).thenAnswer(invocation -> {
             Item savedItem = invocation.getArgument(0);
@@ -139,25 +255,12 @@ class ItemServiceTest {
             return savedItem;
         });
 
-        ItemDto result = itemService.create(itemDto, userId);
+        ItemDto result = itemService.create(itemDto, UserDtoMapper.toUserDto(owner));
 
         assertNotNull(result);
         verify(itemRequestRepository).findById(requestId);
     }
 
-    @Test
-    void createWithUnknownUserShouldThrowException() {
-        Long userId = 999L;
-        ItemDto itemDto = ItemDto.builder().build();
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        NotFoundException exception = assertThrows(
-                NotFoundException.class,
-                () -> itemService.create(itemDto, userId)
-        );
-        assertEquals("Пользователь не найден", exception.getMessage());
-    }
-
     @Test
     void updateShouldUpdateItemFields() {
         Long itemId = 1L;
@@ -178,6 +281,12 @@ class ItemServiceTest {
         assertEquals("NewName", result.getName());
         assertEquals("NewDesc", result.getDescription());
         assertFalse(result.getAvailable());
+        verify(itemSearchEngine).index(item);
+        verify(itemSearchCache).evict(
+                argThat(before -> !"NewName".equals(before.getName())),
+                argThat(after -> "NewName".equals(after.getName()) && !after.getAvailable()));
+        verify(itemNameSuggester).update(argThat(before -> !"NewName".equals(before.getName())),
+                argThat(after -> "NewName".equals(after.getName())));
     }
 
     @Test
@@ -237,27 +346,67 @@ class ItemServiceTest {
         Item item1 = createItem(1L, createUser(1L));
         Item item2 = createItem(2L, createUser(2L));
 
-        when(itemRepository.findAllBySearch(searchText)).thenReturn(List.of(item1, item2));
+        when(itemSearchCache.get(eq(searchText), eq(OffsetPageRequest.of(20, 10)), any()))
+                .thenAnswer(invocation -> invocation.<Function<String, List<ItemDto>>>getArgument(2).apply(searchText));
+        when(itemSearchEngine.search(searchText, OffsetPageRequest.of(20, 10))).thenReturn(List.of(item1, item2));
 
-        List<ItemDto> result = itemService.search(searchText);
+        List<ItemDto> result = itemService.search(searchText, 20, 10);
 
         assertEquals(2, result.size());
     }
 
+    @Test
+    void searchShouldReturnCachedResultWithoutQueryingEngine() {
+        List<ItemDto> cached = List.of(ItemDto.builder().id(1L).build());
+
+        when(itemSearchCache.get(eq("search"), eq(OffsetPageRequest.of(0, 20)), any())).thenReturn(cached);
+
+        assertEquals(cached, itemService.search("search", 0, 20));
+        verifyNoInteractions(itemSearchEngine);
+    }
+
     @Test
     void searchWithEmptyTextShouldReturnEmptyList() {
-        List<ItemDto> result = itemService.search("");
+        List<ItemDto> result = itemService.search("", 0, 20);
 
         assertTrue(result.isEmpty());
-        verifyNoInteractions(itemRepository);
+        verifyNoInteractions(itemSearchEngine);
     }
 
     @Test
     void searchWithBlankTextShouldReturnEmptyList() {
-        List<ItemDto> result = itemService.search("   ");
+        List<ItemDto> result = itemService.search("   ", 0, 20);
 
         assertTrue(result.isEmpty());
-        verifyNoInteractions(itemRepository);
+        verifyNoInteractions(itemSearchEngine);
+    }
+
+    @Test
+    void suggestShouldDelegateToSuggester() {
+        when(itemNameSuggester.suggest("дре", 5)).thenReturn(List.of("Дрель"));
+
+        assertEquals(List.of("Дрель"), itemService.suggest("дре", 5));
+    }
+
+    @Test
+    void suggestWithBlankPrefixShouldReturnEmptyList() {
+        assertTrue(itemService.suggest(" ", 5).isEmpty());
+        verifyNoInteractions(itemNameSuggester);
+    }
+
+    @Test
+    void suggestWithInvalidSizeShouldThrowException() {
+        assertThrows(ConditionsNotMetException.class, () -> itemService.suggest("дре", 0));
+        assertThrows(ConditionsNotMetException.class, () -> itemService.suggest("дре", 11));
+        verifyNoInteractions(itemNameSuggester);
+    }
+
+    @Test
+    void searchWithInvalidPageShouldThrowException() {
+        assertThrows(ConditionsNotMetException.class, () -> itemService.search("text", -1, 20));
+        assertThrows(ConditionsNotMetException.class, () -> itemService.search("text", 0, 0));
+        assertThrows(ConditionsNotMetException.class, () -> itemService.search("text", 0, 101));
+        verifyNoInteractions(itemSearchEngine);
     }
 
     @Test
@@ -270,7 +419,6 @@ class ItemServiceTest {
         Booking booking = createBooking(item);
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(author));
         when(bookingRepository.findByItemIdAndBookerIdAndEndBefore(eq(itemId), eq(userId), any()))
                 .thenReturn(Optional.of(booking));
         when(commentRepository.saveAndFlush(any())).thenAnswer(invocation -> {
@@ -279,10 +427,11 @@ class ItemServiceTest {
             return comment;
         });
 
-        CommentDto result = itemService.createComment(itemId, commentDto, userId);
+        CommentDto result = itemService.createComment(itemId, commentDto, UserDtoMapper.toUserDto(author));
 
         assertNotNull(result);
         assertEquals("Comment", result.getText());
+        verify(ownerItemSummaryUpdater).refresh(item);
     }
 
     @Test
@@ -293,27 +442,11 @@ class ItemServiceTest {
 
         NotFoundException exception = assertThrows(
                 NotFoundException.class,
-                () -> itemService.createComment(itemId, commentDto, 1L)
+                () -> itemService.createComment(itemId, commentDto, UserDtoMapper.toUserDto(createUser(1L)))
         );
         assertEquals("Предмет не найден", exception.getMessage());
     }
 
-    @Test
-    void createCommentWithUnknownUserShouldThrowException() {
-        Long userId = 999L;
-        Item item = createItem(1L, createUser(2L));
-        CommentDto commentDto = CommentDto.builder().build();
-
-        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        NotFoundException exception = assertThrows(
-                NotFoundException.class,
-                () -> itemService.createComment(1L, commentDto, userId)
-        );
-        assertEquals("Пользователь не найден", exception.getMessage());
-    }
-
     @Test
     void createCommentWithNotBookedItemShouldThrowException() {
         Long itemId = 1L;
@@ -322,13 +455,12 @@ class ItemServiceTest {
         CommentDto commentDto = CommentDto.builder().build();
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(createUser(userId)));
         when(bookingRepository.findByItemIdAndBookerIdAndEndBefore(eq(itemId), eq(userId), any()))
                 .thenReturn(Optional.empty());
 
         ConditionsNotMetException exception = assertThrows(
                 ConditionsNotMetException.class,
-                () -> itemService.createComment(itemId, commentDto, userId)
+                () -> itemService.createComment(itemId, commentDto, UserDtoMapper.toUserDto(createUser(userId)))
         );
         assertEquals("Пользователь не арендовал предмет или время аренды еще не вышло", exception.getMessage());
     }
@@ -351,6 +483,18 @@ class ItemServiceTest {
                 .build();
     }
 
+    private OwnerItemSummary createSummary(Item item, LocalDateTime validUntil) {
+        return OwnerItemSummary.builder()
+                .itemId(item.getId())
+                .ownerId(item.getOwner().getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .commentCount(0)
+                .validUntil(validUntil)
+                .build();
+    }
+
     private Booking createBooking(Item item) {
         return Booking.builder()
                 .id(1L)
@@ -361,6 +505,18 @@ class ItemServiceTest {
                 .build();
     }
 
+    private BookingShortDto createBookingShortDto(Long id, Item item, LocalDateTime start, LocalDateTime end) {
+        return BookingShortDto.builder()
+                .id(id)
+                .itemId(item.getId())
+                .bookerId(10L)
+                .bookerName("User 10")
+                .bookerEmail("user10@mail.ru")
+                .start(start)
+                .end(end)
+                .build();
+    }
+
     private Comment createComment(Item item) {
         return Comment.builder()
                 .id(1L)
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.core.item.availability;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.core.item.persistance.entity.dto.DatePeriodDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayBitmapTest {
+    private final LocalDate from = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void freePeriodsShouldCoverWholeRangeWhenNothingMarked() {
+        DayBitmap bitmap = new DayBitmap(from, from.plusDays(89));
+
+        assertEquals(List.of(new DatePeriodDto(from, from.plusDays(89))), bitmap.freePeriods());
+    }
+
+    @Test
+    void markShouldClampToRange() {
+        DayBitmap bitmap = new DayBitmap(from, from.plusDays(9));
+        bitmap.mark(from.minusDays(5), from.plusDays(1));
+        bitmap.mark(from.plusDays(8), from.plusDays(20));
+
+        assertTrue(bitmap.isMarked(from));
+        assertFalse(bitmap.isMarked(from.plusDays(2)));
+        assertFalse(bitmap.isMarked(from.plusDays(10)));
+        assertEquals(List.of(new DatePeriodDto(from.plusDays(2), from.plusDays(7))), bitmap.freePeriods());
+    }
+
+    @Test
+    void markShouldSpanWordBoundaries() {
+        DayBitmap bitmap = new DayBitmap(from, from.plusDays(199));
+        bitmap.mark(from.plusDays(60), from.plusDays(130));
+
+        assertTrue(bitmap.isMarked(from.plusDays(63)));
+        assertTrue(bitmap.isMarked(from.plusDays(64)));
+        assertTrue(bitmap.isMarked(from.plusDays(128)));
+        assertEquals(List.of(new DatePeriodDto(from, from.plusDays(59)),
+                new DatePeriodDto(from.plusDays(131), from.plusDays(199))), bitmap.freePeriods());
+    }
+
+    @Test
+    void freePeriodsShouldBeEmptyWhenFullyMarked() {
+        DayBitmap bitmap = new DayBitmap(from, from.plusDays(127));
+        bitmap.mark(from, from.plusDays(127));
+
+        assertEquals(List.of(), bitmap.freePeriods());
+    }
+
+    @Test
+    void markShouldIgnoreReversedPeriod() {
+        DayBitmap bitmap = new DayBitmap(from, from.plusDays(9));
+        bitmap.mark(from.plusDays(5), from.plusDays(4));
+
+        assertEquals(List.of(new DatePeriodDto(from, from.plusDays(9))), bitmap.freePeriods());
+    }
+}
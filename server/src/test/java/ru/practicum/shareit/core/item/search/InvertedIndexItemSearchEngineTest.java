@@ -0,0 +1,122 @@
+package ru.practicum.shareit.core.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private InvertedIndexItemSearchEngine searchEngine;
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private final Item drill = createItem(1L, "Аккумуляторный шуруповёрт", "Почти как дрель", true);
+    private final Item hammerDrill = createItem(2L, "Дрель ударная", "Мощная", true);
+    private final Item brokenDrill = createItem(3L, "Дрель", "Сломана", false);
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.findAllTexts()).thenReturn(List.of(toText(drill), toText(hammerDrill), toText(brokenDrill)));
+        searchEngine.rebuild();
+    }
+
+    @Test
+    void searchShouldFindAvailableSubstringMatchesWithNameMatchesFirst() {
+        when(itemRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(drill, hammerDrill));
+
+        List<Item> result = searchEngine.search("ДРЕЛ", PAGE);
+
+        assertEquals(List.of(hammerDrill, drill), result);
+    }
+
+    @Test
+    void searchShouldHandleQueriesShorterThanGram() {
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(hammerDrill));
+
+        assertEquals(List.of(hammerDrill), searchEngine.search("уд", PAGE));
+    }
+
+    @Test
+    void searchShouldNotQueryDatabaseWhenNothingMatches() {
+        assertEquals(List.of(), searchEngine.search("палатка", PAGE));
+        verify(itemRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    void searchShouldFetchOnlyRequestedPage() {
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(drill));
+
+        assertEquals(List.of(drill), searchEngine.search("дрел", PageRequest.of(1, 1)));
+    }
+
+    @Test
+    void indexShouldReplacePreviousTextOfItem() {
+        Item renamed = createItem(2L, "Перфоратор", "Мощный", true);
+        Item repaired = createItem(3L, "Дрель", "Починена", true);
+        searchEngine.index(renamed);
+        searchEngine.index(repaired);
+        when(itemRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(drill, repaired));
+
+        assertEquals(List.of(repaired, drill), searchEngine.search("дрель", PAGE));
+        assertEquals(List.of(), searchEngine.search("ударная", PAGE));
+    }
+
+    @Test
+    void onUserDeletedShouldDropOwnedItemsFromIndex() {
+        searchEngine.onUserDeleted(new UserDeletedEvent(7L, List.of(toText(hammerDrill)), List.of()));
+
+        assertEquals(List.of(), searchEngine.search("ударная", PAGE));
+        verify(itemRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    void indexShouldWaitForTransactionCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchEngine.index(createItem(2L, "Перфоратор", "Мощный", true));
+
+            assertEquals(List.of(), searchEngine.search("перфоратор", PAGE));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(hammerDrill));
+
+        assertEquals(List.of(hammerDrill), searchEngine.search("перфоратор", PAGE));
+    }
+
+    private Item createItem(Long id, String name, String description, boolean available) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+
+    private ItemTextDto toText(Item item) {
+        return new ItemTextDto(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+    }
+}
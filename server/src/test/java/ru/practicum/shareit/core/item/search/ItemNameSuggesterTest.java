@@ -0,0 +1,105 @@
+package ru.practicum.shareit.core.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemNameSuggesterTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private ItemNameSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.findAllTexts()).thenReturn(List.of(
+                text(1L, "Дрель", true),
+                text(2L, "Дрель ударная", true),
+                text(3L, "дрель", true),
+                text(4L, "Дрезина", true),
+                text(5L, "Дрова", false),
+                text(6L, "Палатка", true)));
+        suggester.rebuild();
+    }
+
+    @Test
+    void suggestShouldRankByPopularityThenName() {
+        assertEquals(List.of("дрель", "Дрезина", "Дрель ударная"), suggester.suggest("ДР", 10));
+        assertEquals(List.of("дрель"), suggester.suggest("дре", 1));
+    }
+
+    @Test
+    void suggestShouldReturnEmptyListForUnknownPrefix() {
+        assertEquals(List.of(), suggester.suggest("дров", 10));
+        assertEquals(List.of(), suggester.suggest("лодка", 10));
+    }
+
+    @Test
+    void suggestShouldMatchPrefixEndingInsideCompressedEdge() {
+        assertEquals(List.of("дрель", "Дрель ударная"), suggester.suggest("дрел", 10));
+        assertEquals(List.of("Дрель ударная"), suggester.suggest("дрель уд", 10));
+        assertEquals(List.of(), suggester.suggest("дрелх", 10));
+    }
+
+    @Test
+    void updateShouldMoveRenamedItem() {
+        suggester.update(text(4L, "Дрезина", true), text(4L, "Лодка", true));
+
+        assertEquals(List.of("дрель", "Дрель ударная"), suggester.suggest("дре", 10));
+        assertEquals(List.of("Лодка"), suggester.suggest("ло", 10));
+    }
+
+    @Test
+    void updateShouldHideUnavailableItem() {
+        suggester.update(text(6L, "Палатка", true), text(6L, "Палатка", false));
+        suggester.update(null, text(5L, "Дрова", true));
+
+        assertEquals(List.of(), suggester.suggest("пал", 10));
+        assertEquals(List.of("Дрова"), suggester.suggest("дро", 10));
+    }
+
+    @Test
+    void updateShouldRemoveDeletedItem() {
+        suggester.update(text(4L, "Дрезина", true), null);
+
+        assertEquals(List.of("дрель", "Дрель ударная"), suggester.suggest("дре", 10));
+    }
+
+    @Test
+    void onUserDeletedShouldRemoveOwnedItems() {
+        suggester.onUserDeleted(new UserDeletedEvent(7L, List.of(text(2L, "Дрель ударная", true),
+                text(4L, "Дрезина", true)), List.of()));
+
+        assertEquals(List.of("дрель"), suggester.suggest("др", 10));
+    }
+
+    @Test
+    void suggestShouldKeepOnlyTopTenPerNode() {
+        for (long i = 0; i < 20; i++) {
+            suggester.update(null, text(100 + i, "Стул " + (char) ('a' + i), true));
+        }
+
+        List<String> suggestions = suggester.suggest("стул", 20);
+
+        assertEquals(ItemNameSuggester.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("Стул a", suggestions.getFirst());
+    }
+
+    private ItemTextDto text(Long id, String name, boolean available) {
+        return new ItemTextDto(id, name, "Описание", available);
+    }
+}
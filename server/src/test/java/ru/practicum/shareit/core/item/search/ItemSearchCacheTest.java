@@ -0,0 +1,163 @@
+package ru.practicum.shareit.core.item.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
+import ru.practicum.shareit.utils.PrimaryReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ItemSearchCacheTest {
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ItemSearchCache cache = new ItemSearchCache(100, 10, meterRegistry,
+            new PrimaryReader(mock(PlatformTransactionManager.class)));
+    private final List<String> loads = new ArrayList<>();
+
+    @Test
+    void getShouldLoadOncePerNormalizedText() {
+        get("  Дрель ");
+        get("дрель");
+        get("ДРЕЛЬ", PageRequest.of(1, 20));
+
+        assertEquals(List.of("дрель", "дрель"), loads);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "items.search").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "items.search").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void evictShouldDropOnlyAffectedQueries() {
+        get("дрель");
+        get("палатка");
+
+        cache.evict(null, new ItemTextDto(5L, "Дрель ударная", "Новая", true));
+        get("дрель");
+        get("палатка");
+
+        assertEquals(List.of("дрель", "палатка", "дрель"), loads);
+    }
+
+    @Test
+    void evictShouldMatchInflectedWords() {
+        get("дрель");
+
+        cache.evict(null, new ItemTextDto(5L, "Две дрели", "В наборе", true));
+        get("дрель");
+
+        assertEquals(List.of("дрель", "дрель"), loads);
+    }
+
+    @Test
+    void evictShouldMatchQueriesSharingSnowballStem() {
+        get("дрелями");
+        get("ямы");
+        get("палатка");
+
+        cache.evict(null, new ItemTextDto(5L, "Дрель", "Для ямки", true));
+        get("дрелями");
+        get("ямы");
+        get("палатка");
+
+        assertEquals(List.of("дрелями", "ямы", "палатка", "дрелями", "ямы"), loads);
+    }
+
+    @Test
+    void evictShouldDropQueriesContainingItemWhenItBecomesUnavailable() {
+        get("лобзик");
+
+        cache.evict(new ItemTextDto(1L, "Лобзик", "Электрический", true),
+                new ItemTextDto(1L, "Лобзик", "Электрический", false));
+        get("лобзик");
+
+        assertEquals(List.of("лобзик", "лобзик"), loads);
+    }
+
+    @Test
+    void evictShouldIgnoreUnchangedAndUnavailableItems() {
+        get("дрель");
+
+        ItemTextDto unchanged = new ItemTextDto(1L, "Дрель", "Старая", true);
+        cache.evict(unchanged, new ItemTextDto(1L, "Дрель", "Старая", true));
+        cache.evict(null, new ItemTextDto(7L, "Дрель", "Сломана", false));
+        get("дрель");
+
+        assertEquals(List.of("дрель"), loads);
+    }
+
+    @Test
+    void evictShouldDropQueriesContainingDeletedItem() {
+        get("лобзик");
+
+        cache.evict(new ItemTextDto(1L, "Лобзик", "Электрический", true), null);
+        get("лобзик");
+
+        assertEquals(List.of("лобзик", "лобзик"), loads);
+    }
+
+    @Test
+    void onUserDeletedShouldDropQueriesContainingOwnedItems() {
+        get("лобзик");
+        get("палатка");
+
+        cache.onUserDeleted(new UserDeletedEvent(7L, List.of(new ItemTextDto(9L, "Лобзик", "Электрический", true)), List.of()));
+        get("лобзик");
+        get("палатка");
+
+        assertEquals(List.of("лобзик", "палатка", "лобзик"), loads);
+    }
+
+    @Test
+    void evictShouldWaitForTransactionCommit() {
+        get("дрель");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(null, new ItemTextDto(5L, "Дрель", "Новая", true));
+            get("дрель");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        get("дрель");
+
+        assertEquals(List.of("дрель", "дрель"), loads);
+    }
+
+    @Test
+    void getShouldNotCacheResultLoadedBeforeEviction() {
+        cache.get("дрель", PAGE, normalized -> {
+            loads.add(normalized);
+            cache.evict(null, new ItemTextDto(5L, "Дрель", "Новая", true));
+            return List.of();
+        });
+        get("дрель");
+        get("дрель");
+
+        assertEquals(List.of("дрель", "дрель"), loads);
+    }
+
+    private void get(String text) {
+        get(text, PAGE);
+    }
+
+    private void get(String text, Pageable page) {
+        cache.get(text, page, normalized -> {
+            loads.add(normalized);
+            return List.of(ItemDto.builder().id(1L).name(normalized).build());
+        });
+    }
+}
@@ -0,0 +1,306 @@
+package ru.practicum.shareit.core.item.summary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.core.booking.BookingEventType;
+import ru.practicum.shareit.core.booking.event.BookingChangedEvent;
+import ru.practicum.shareit.core.booking.persistance.entity.dto.BookingShortDto;
+import ru.practicum.shareit.core.booking.persistance.repository.BookingRepository;
+import ru.practicum.shareit.core.item.persistance.entity.dto.CommentDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Comment;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.model.OwnerItemSummary;
+import ru.practicum.shareit.core.item.persistance.repository.CommentRepository;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.persistance.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.core.user.persistance.entity.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerItemSummaryUpdaterTest {
+
+    @Mock
+    private OwnerItemSummaryRepository summaryRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OwnerItemSummaryUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new OwnerItemSummaryUpdater(summaryRepository, bookingRepository, commentRepository, itemRepository,
+                new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    void resolveShouldPickLastAndNextBookingPerItem() {
+        LocalDateTime now = LocalDateTime.now();
+        OwnerItemSummary summary1 = createSummary(1L);
+        OwnerItemSummary summary2 = createSummary(2L);
+        BookingShortDto current = createBookingShortDto(1L, 1L, now.minusDays(1), now.plusDays(1));
+        BookingShortDto later = createBookingShortDto(2L, 1L, now.plusDays(5), now.plusDays(6));
+        BookingShortDto sooner = createBookingShortDto(3L, 1L, now.plusDays(2), now.plusDays(3));
+        BookingShortDto past = createBookingShortDto(4L, 2L, now.minusDays(5), now.minusDays(4));
+
+        when(bookingRepository.findLastAndNextByItemIdIn(List.of(1L, 2L), now))
+                .thenReturn(List.of(past, later, current, sooner));
+        when(commentRepository.findAllByItemIdIn(List.of(1L, 2L))).thenReturn(List.of(createComment(1L, 2L, now)));
+
+        updater.resolve(List.of(summary1, summary2), now);
+
+        assertEquals(current.getId(), summary1.getLastBooking().getId());
+        assertEquals(sooner.getId(), summary1.getNextBooking().getId());
+        assertEquals(current.getEnd(), summary1.getValidUntil());
+        assertEquals(0, summary1.getCommentCount());
+        assertTrue(summary1.getLatestComments().isEmpty());
+        assertNull(summary2.getLastBooking());
+        assertNull(summary2.getNextBooking());
+        assertNull(summary2.getValidUntil());
+        assertEquals(1, summary2.getCommentCount());
+    }
+
+    @Test
+    void resolveShouldExpireAtNextBookingStartWhenItComesFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        OwnerItemSummary summary = createSummary(1L);
+        BookingShortDto last = createBookingShortDto(1L, 1L, now.minusDays(1), now.plusDays(3));
+        BookingShortDto next = createBookingShortDto(2L, 1L, now.plusDays(2), now.plusDays(4));
+
+        when(bookingRepository.findLastAndNextByItemIdIn(List.of(1L), now)).thenReturn(List.of(last, next));
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+
+        updater.resolve(List.of(summary), now);
+
+        assertEquals(next.getStart(), summary.getValidUntil());
+        assertTrue(summary.isValidAt(now.plusDays(1)));
+        assertFalse(summary.isValidAt(now.plusDays(2)));
+    }
+
+    @Test
+    void resolveShouldKeepItemsWithoutBookingsValid() {
+        LocalDateTime now = LocalDateTime.now();
+        OwnerItemSummary summary = createSummary(1L);
+
+        when(bookingRepository.findLastAndNextByItemIdIn(List.of(1L), now)).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+
+        updater.resolve(List.of(summary), now);
+
+        assertNull(summary.getValidUntil());
+        assertTrue(summary.isValidAt(now.plusYears(1)));
+    }
+
+    @Test
+    void resolveShouldKeepOnlyLatestCommentsAndCountAll() {
+        LocalDateTime now = LocalDateTime.now();
+        OwnerItemSummary summary = createSummary(1L);
+        List<Comment> comments = new ArrayList<>();
+        LongStream.rangeClosed(1, 15).forEach(id -> comments.add(createComment(id, 1L, now.minusHours(16 - id))));
+
+        when(bookingRepository.findLastAndNextByItemIdIn(List.of(1L), now)).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(comments);
+
+        updater.resolve(List.of(summary), now);
+
+        assertEquals(15, summary.getCommentCount());
+        assertEquals(LongStream.iterate(15, id -> id - 1).limit(OwnerItemSummaryUpdater.LATEST_COMMENTS)
+                .boxed().toList(), summary.getLatestComments().stream().map(CommentDto::getId).toList());
+    }
+
+    @Test
+    void refreshShouldSaveSummaryBuiltFromItem() {
+        Item item = Item.builder()
+                .id(1L)
+                .name("Item 1")
+                .description("Description 1")
+                .available(true)
+                .owner(createUser(5L))
+                .build();
+
+        when(bookingRepository.findLastAndNextByItemIdIn(eq(List.of(1L)), any())).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+
+        updater.refresh(item);
+
+        ArgumentCaptor<OwnerItemSummary> captor = ArgumentCaptor.forClass(OwnerItemSummary.class);
+        verify(summaryRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getItemId());
+        assertEquals(5L, captor.getValue().getOwnerId());
+        assertEquals("Item 1", captor.getValue().getName());
+        assertEquals(0, captor.getValue().getCommentCount());
+    }
+
+    @Test
+    void refreshShouldRecomputeLockedSummary() {
+        OwnerItemSummary existing = createSummary(1L);
+        Item item = Item.builder()
+                .id(1L)
+                .name("Renamed")
+                .description("Description 1")
+                .available(false)
+                .owner(createUser(1L))
+                .build();
+
+        when(summaryRepository.findForUpdateByItemId(1L)).thenReturn(Optional.of(existing));
+        when(bookingRepository.findLastAndNextByItemIdIn(eq(List.of(1L)), any())).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+
+        updater.refresh(item);
+
+        verify(summaryRepository).save(existing);
+        assertEquals("Renamed", existing.getName());
+        assertFalse(existing.getAvailable());
+        assertNull(existing.getValidUntil());
+    }
+
+    @Test
+    void refreshAllShouldResolveLockedSummaries() {
+        OwnerItemSummary summary1 = createSummary(1L);
+        OwnerItemSummary summary2 = createSummary(2L);
+
+        when(summaryRepository.findAllForUpdateByItemIdIn(List.of(1L, 2L))).thenReturn(List.of(summary1, summary2));
+        when(bookingRepository.findLastAndNextByItemIdIn(eq(List.of(1L, 2L)), any())).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(List.of(1L, 2L))).thenReturn(List.of());
+
+        assertEquals(List.of(summary1, summary2), updater.refreshAll(List.of(1L, 2L)));
+        assertNull(summary1.getValidUntil());
+        assertNull(summary2.getValidUntil());
+    }
+
+    @Test
+    void onBookingChangedShouldRefreshSummaryOfBookedItem() {
+        Item item = Item.builder()
+                .id(1L)
+                .name("Item 1")
+                .description("Description 1")
+                .available(true)
+                .owner(createUser(5L))
+                .build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(bookingRepository.findLastAndNextByItemIdIn(eq(List.of(1L)), any()))
+                .thenReturn(List.of(createBookingShortDto(3L, 1L, start, start.plusDays(1))));
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+
+        updater.onBookingChanged(new BookingChangedEvent(1L, BookingEventType.CREATED, 3L, 1L, 10L,
+                start, start.plusDays(1), LocalDateTime.now()));
+
+        ArgumentCaptor<OwnerItemSummary> captor = ArgumentCaptor.forClass(OwnerItemSummary.class);
+        verify(summaryRepository).save(captor.capture());
+        assertEquals(3L, captor.getValue().getNextBooking().getId());
+        assertEquals(start, captor.getValue().getValidUntil());
+    }
+
+    @Test
+    void onBookingChangedShouldIgnoreDeletedItem() {
+        updater.onBookingChanged(new BookingChangedEvent(1L, BookingEventType.CREATED, 3L, 1L, 10L,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1), LocalDateTime.now()));
+
+        verifyNoInteractions(summaryRepository, bookingRepository, commentRepository);
+    }
+
+    @Test
+    void refreshExpiredShouldSkipWhenNothingExpired() {
+        when(summaryRepository.findAllByValidUntilLessThanEqualOrderByValidUntil(any(), any(Limit.class)))
+                .thenReturn(List.of());
+
+        updater.refreshExpired();
+
+        verifyNoInteractions(bookingRepository, commentRepository);
+    }
+
+    @Test
+    void refreshExpiredShouldDrainBacklogInSeparateTransactions() {
+        OwnerItemSummary summary1 = createSummary(1L);
+        OwnerItemSummary summary2 = createSummary(2L);
+        OwnerItemSummary summary3 = createSummary(3L);
+
+        when(summaryRepository.findAllByValidUntilLessThanEqualOrderByValidUntil(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(summary1, summary2), List.of(summary3));
+        when(bookingRepository.findLastAndNextByItemIdIn(anyList(), any())).thenReturn(List.of());
+        when(commentRepository.findAllByItemIdIn(anyList())).thenReturn(List.of());
+
+        updater.refreshExpired();
+
+        verify(summaryRepository, times(2)).findAllByValidUntilLessThanEqualOrderByValidUntil(any(), any(Limit.class));
+        verify(transactionManager, times(2)).commit(any());
+        assertNull(summary1.getValidUntil());
+        assertNull(summary3.getValidUntil());
+    }
+
+    @Test
+    void expireAllByParticipantShouldMarkSummariesExpired() {
+        updater.expireAllByParticipant(7L);
+
+        verify(summaryRepository).expireAllByParticipantId(7L, OwnerItemSummary.EXPIRED);
+    }
+
+    private OwnerItemSummary createSummary(Long itemId) {
+        return OwnerItemSummary.builder()
+                .itemId(itemId)
+                .ownerId(1L)
+                .name("Item " + itemId)
+                .description("Description " + itemId)
+                .available(true)
+                .commentCount(0)
+                .validUntil(OwnerItemSummary.EXPIRED)
+                .build();
+    }
+
+    private User createUser(Long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@mail.ru")
+                .build();
+    }
+
+    private BookingShortDto createBookingShortDto(Long id, Long itemId, LocalDateTime start, LocalDateTime end) {
+        return BookingShortDto.builder()
+                .id(id)
+                .itemId(itemId)
+                .bookerId(10L)
+                .bookerName("User 10")
+                .bookerEmail("user10@mail.ru")
+                .start(start)
+                .end(end)
+                .build();
+    }
+
+    private Comment createComment(Long id, Long itemId, LocalDateTime created) {
+        return Comment.builder()
+                .id(id)
+                .text("Comment " + id)
+                .item(Item.builder().id(itemId).build())
+                .author(createUser(20L))
+                .created(created)
+                .build();
+    }
+}
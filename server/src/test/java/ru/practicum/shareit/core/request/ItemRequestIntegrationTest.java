@@ -77,7 +77,7 @@ class ItemRequestIntegrationTest {
         ItemDto itemDto = getItemDto(itemCount);
         itemDto.setRequestId(request.getId());
 
-        itemService.create(itemDto, ownerUserDto.getId());
+        itemService.create(itemDto, ownerUserDto);
 
         ItemRequestDto result = itemRequestController.findById(request.getId(), requesterUserDto.getId());
 
@@ -100,7 +100,7 @@ class ItemRequestIntegrationTest {
         ItemDto itemDto = getItemDto(itemCount);
         itemDto.setRequestId(request.getId());
 
-        itemService.create(itemDto, ownerUserDto.getId());
+        itemService.create(itemDto, ownerUserDto);
 
         List<ItemRequestDto> result = itemRequestController.findAll(userDto2.getId());
 
@@ -5,13 +5,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemShortDto;
 import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
 import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestDto;
+import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestShortDto;
 import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
+import ru.practicum.shareit.core.user.UserService;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDtoMapper;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
-import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
 import ru.practicum.shareit.exception.NotFoundException;
 
 import java.time.LocalDateTime;
@@ -28,7 +30,7 @@ import static org.mockito.Mockito.*;
 class ItemRequestServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserService userService;
 
     @Mock
     private ItemRequestRepository itemRequestRepository;
@@ -56,14 +58,20 @@ class ItemRequestServiceTest {
                 .build();
     }
 
-    private Item createItem(Long id, String name, User owner, ItemRequest request) {
-        return Item.builder()
+    private ItemRequestShortDto toShortDto(ItemRequest request) {
+        return ItemRequestShortDto.builder()
+                .id(request.getId())
+                .description(request.getDescription())
+                .created(request.getCreated())
+                .build();
+    }
+
+    private ItemShortDto createItem(Long id, String name, User owner, ItemRequest request) {
+        return ItemShortDto.builder()
                 .id(id)
                 .name(name)
-                .description("Test item")
-                .available(true)
-                .owner(owner)
-                .request(request)
+                .ownerId(owner.getId())
+                .requestId(request.getId())
                 .build();
     }
 
@@ -72,7 +80,7 @@ class ItemRequestServiceTest {
         Long userId = 1L;
         when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId))
                 .thenReturn(Collections.emptyList());
-        when(itemRepository.findAllByRequestIdIn(anyList()))
+        when(itemRepository.findAllShortByRequestIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
 
         List<ItemRequestDto> result = itemRequestService.findAllOwn(userId);
@@ -80,7 +88,7 @@ class ItemRequestServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(itemRequestRepository).findAllByRequesterIdOrderByCreatedDesc(userId);
-        verify(itemRepository).findAllByRequestIdIn(anyList());
+        verify(itemRepository).findAllShortByRequestIdIn(anyList());
     }
 
     @Test
@@ -90,12 +98,12 @@ class ItemRequestServiceTest {
         ItemRequest request1 = createItemRequest(1L, requester);
         ItemRequest request2 = createItemRequest(2L, requester);
         User owner = createUser(3L, "Owner", "owner@email.com");
-        Item item1 = createItem(1L, "Item 1", owner, request1);
-        Item item2 = createItem(2L, "Item 2", owner, request1);
+        ItemShortDto item1 = createItem(1L, "Item 1", owner, request1);
+        ItemShortDto item2 = createItem(2L, "Item 2", owner, request1);
 
         when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(userId))
-                .thenReturn(List.of(request1, request2));
-        when(itemRepository.findAllByRequestIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(toShortDto(request1), toShortDto(request2)));
+        when(itemRepository.findAllShortByRequestIdIn(List.of(1L, 2L)))
                 .thenReturn(List.of(item1, item2));
 
         List<ItemRequestDto> result = itemRequestService.findAllOwn(userId);
@@ -105,7 +113,7 @@ class ItemRequestServiceTest {
         assertEquals(1L, result.get(0).getId());
         assertEquals(2, result.get(0).getItems().size());
         verify(itemRequestRepository).findAllByRequesterIdOrderByCreatedDesc(userId);
-        verify(itemRepository).findAllByRequestIdIn(List.of(1L, 2L));
+        verify(itemRepository).findAllShortByRequestIdIn(List.of(1L, 2L));
     }
 
     @Test
@@ -113,7 +121,7 @@ class ItemRequestServiceTest {
         Long userId = 1L;
         when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userId))
                 .thenReturn(Collections.emptyList());
-        when(itemRepository.findAllByRequestIdIn(anyList()))
+        when(itemRepository.findAllShortByRequestIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
 
         List<ItemRequestDto> result = itemRequestService.findAll(userId);
@@ -121,7 +129,7 @@ class ItemRequestServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(itemRequestRepository).findAllByRequesterIdNotOrderByCreatedDesc(userId);
-        verify(itemRepository).findAllByRequestIdIn(anyList());
+        verify(itemRepository).findAllShortByRequestIdIn(anyList());
     }
 
     @Test
@@ -131,11 +139,11 @@ class ItemRequestServiceTest {
         ItemRequest request1 = createItemRequest(1L, otherUser);
         ItemRequest request2 = createItemRequest(2L, otherUser);
         User owner = createUser(3L, "Owner", "owner@email.com");
-        Item item1 = createItem(1L, "Item 1", owner, request1);
+        ItemShortDto item1 = createItem(1L, "Item 1", owner, request1);
 
         when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userId))
-                .thenReturn(List.of(request1, request2));
-        when(itemRepository.findAllByRequestIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(toShortDto(request1), toShortDto(request2)));
+        when(itemRepository.findAllShortByRequestIdIn(List.of(1L, 2L)))
                 .thenReturn(List.of(item1));
 
         List<ItemRequestDto> result = itemRequestService.findAll(userId);
@@ -146,7 +154,7 @@ class ItemRequestServiceTest {
         assertEquals(1, result.get(0).getItems().size());
         assertEquals(0, result.get(1).getItems().size());
         verify(itemRequestRepository).findAllByRequesterIdNotOrderByCreatedDesc(userId);
-        verify(itemRepository).findAllByRequestIdIn(List.of(1L, 2L));
+        verify(itemRepository).findAllShortByRequestIdIn(List.of(1L, 2L));
     }
 
     @Test
@@ -166,12 +174,12 @@ class ItemRequestServiceTest {
         User requester = createUser(1L, "Requester", "requester@email.com");
         ItemRequest request = createItemRequest(requestId, requester);
         User owner = createUser(2L, "Owner", "owner@email.com");
-        Item item1 = createItem(1L, "Item 1", owner, request);
-        Item item2 = createItem(2L, "Item 2", owner, request);
+        ItemShortDto item1 = createItem(1L, "Item 1", owner, request);
+        ItemShortDto item2 = createItem(2L, "Item 2", owner, request);
 
         when(itemRequestRepository.findById(requestId))
                 .thenReturn(Optional.of(request));
-        when(itemRepository.findAllByRequestIdIn(List.of(requestId)))
+        when(itemRepository.findAllShortByRequestIdIn(List.of(requestId)))
                 .thenReturn(List.of(item1, item2));
 
         ItemRequestDto result = itemRequestService.findById(requestId);
@@ -180,7 +188,7 @@ class ItemRequestServiceTest {
         assertEquals(requestId, result.getId());
         assertEquals(2, result.getItems().size());
         verify(itemRequestRepository).findById(requestId);
-        verify(itemRepository).findAllByRequestIdIn(List.of(requestId));
+        verify(itemRepository).findAllShortByRequestIdIn(List.of(requestId));
     }
 
     @Test
@@ -190,11 +198,11 @@ class ItemRequestServiceTest {
                 .description("Need item")
                 .build();
 
-        when(userRepository.findById(userId))
-                .thenReturn(Optional.empty());
+        when(userService.findById(userId))
+                .thenThrow(new NotFoundException("Пользователь не найден"));
 
         assertThrows(NotFoundException.class, () -> itemRequestService.create(requestDto, userId));
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
         verifyNoInteractions(itemRequestRepository);
     }
 
@@ -208,8 +216,8 @@ class ItemRequestServiceTest {
         ItemRequest savedRequest = createItemRequest(1L, requester);
         savedRequest.setDescription(requestDto.getDescription());
 
-        when(userRepository.findById(userId))
-                .thenReturn(Optional.of(requester));
+        when(userService.findById(userId))
+                .thenReturn(UserDtoMapper.toUserDto(requester));
         when(itemRequestRepository.saveAndFlush(any(ItemRequest.class)))
                 .thenReturn(savedRequest);
 
@@ -218,7 +226,7 @@ class ItemRequestServiceTest {
         assertNotNull(result);
         assertEquals(savedRequest.getId(), result.getId());
         assertEquals(requestDto.getDescription(), result.getDescription());
-        verify(userRepository).findById(userId);
+        verify(userService).findById(userId);
         verify(itemRequestRepository).saveAndFlush(any(ItemRequest.class));
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package ru.practicum.shareit.core.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -16,6 +18,7 @@ import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 import ru.practicum.shareit.utils.ErrorHandler;
 
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -77,6 +80,22 @@ class UserControllerTest {
         verify(userService, times(1)).create(any());
     }
 
+    @Test
+    void createUserWithEmailConstraintViolationShouldReturnDuplicatedError() throws Exception {
+        UserDto userDto = getUserDto(userCount);
+        when(userService.create(any())).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        "PUBLIC.UQ_USER_EMAIL_INDEX_4")));
+
+        mockMvc.perform(post("/users")
+                        .content(mapper.writeValueAsString(userDto))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Этот email уже используется"));
+    }
+
     @Test
     void getUserByIdShouldReturnUser() throws Exception {
         UserDto userDto = getUserDto(userCount);
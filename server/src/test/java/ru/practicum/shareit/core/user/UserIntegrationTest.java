@@ -1,15 +1,26 @@
 package ru.practicum.shareit.core.user;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.core.item.ItemController;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemDto;
+import ru.practicum.shareit.core.item.persistance.entity.model.Item;
+import ru.practicum.shareit.core.request.ItemRequestController;
+import ru.practicum.shareit.core.request.persistance.entity.dto.ItemRequestDto;
+import ru.practicum.shareit.core.request.persistance.entity.model.ItemRequest;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,6 +33,15 @@ class UserIntegrationTest {
     @Autowired
     private UserController userController;
 
+    @Autowired
+    private ItemController itemController;
+
+    @Autowired
+    private ItemRequestController itemRequestController;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void userControllerCreatesCorrectUser() {
         UserDto userDto = getUserDto(userCount);
@@ -60,6 +80,66 @@ class UserIntegrationTest {
         assertTrue(thrown.getMessage().contains("Пользователь не найден"));
     }
 
+    @Test
+    void userControllerDeleteDropsOwnedItemsFromSearchAfterCommit() {
+        UserDto owner = userController.create(getUserDto(userCount));
+        itemController.create(ItemDto.builder()
+                .name("Лобзик")
+                .description("Электрический")
+                .available(true)
+                .build(), owner);
+        UserDto searcher = userController.create(getUserDto(userCount));
+        assertEquals(1, itemController.search("лобзик", 0, 20, searcher).size());
+        assertEquals(List.of("Лобзик"), itemController.suggest("лоб", 10, searcher));
+
+        userController.delete(owner.getId());
+
+        assertTrue(itemController.search("лобзик", 0, 20, searcher).isEmpty());
+        assertTrue(itemController.suggest("лоб", 10, searcher).isEmpty());
+    }
+
+    @Test
+    void userControllerDeleteEvictsOnlyCascadedRowsFromSecondLevelCache() {
+        UserDto requester = userController.create(getUserDto(userCount));
+        ItemRequestDto request = itemRequestController.create(ItemRequestDto.builder()
+                .description("Нужен лобзик")
+                .build(), requester.getId());
+        UserDto owner = userController.create(getUserDto(userCount));
+        ItemDto answer = itemController.create(ItemDto.builder()
+                .name("Лобзик")
+                .description("Электрический")
+                .available(true)
+                .requestId(request.getId())
+                .build(), owner);
+        ItemDto other = itemController.create(ItemDto.builder()
+                .name("Палатка")
+                .description("Двухместная")
+                .available(true)
+                .build(), owner);
+        itemController.findById(answer.getId(), owner);
+        itemController.findById(other.getId(), owner);
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Item.class, answer.getId()));
+
+        userController.delete(requester.getId());
+
+        assertFalse(cache.contains(Item.class, answer.getId()));
+        assertFalse(cache.contains(ItemRequest.class, request.getId()));
+        assertTrue(cache.contains(Item.class, other.getId()));
+        assertTrue(itemController.search("лобзик", 0, 20, owner).isEmpty());
+    }
+
+    @Test
+    void userControllerRejectsDuplicatedEmailByConstraint() {
+        UserDto userDto = userController.create(getUserDto(userCount));
+        UserDto duplicate = UserDto.builder()
+                .name("Duplicate")
+                .email(userDto.getEmail())
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class, () -> userController.create(duplicate));
+    }
+
     private UserDto getUserDto(int count) {
         userCount++;
         return UserDto.builder()
@@ -1,16 +1,30 @@
 package ru.practicum.shareit.core.user;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import ru.practicum.shareit.exception.DuplicatedDataException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.core.item.persistance.entity.dto.ItemTextDto;
+import ru.practicum.shareit.core.item.persistance.repository.ItemRepository;
+import ru.practicum.shareit.core.item.summary.OwnerItemSummaryUpdater;
+import ru.practicum.shareit.core.request.persistance.repository.ItemRequestRepository;
+import ru.practicum.shareit.core.user.cache.UserCache;
+import ru.practicum.shareit.core.user.event.UserDeletedEvent;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.core.user.persistance.entity.model.User;
 import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
 import ru.practicum.shareit.core.user.persistance.repository.UserRepository;
+import ru.practicum.shareit.utils.PrimaryReader;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +36,22 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserCache userCache = new UserCache(100, 5, new SimpleMeterRegistry(),
+            new PrimaryReader(mock(PlatformTransactionManager.class)));
+
+    @Mock
+    private OwnerItemSummaryUpdater ownerItemSummaryUpdater;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemRequestRepository itemRequestRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -58,6 +88,34 @@ class UserServiceTest {
         verify(userRepository, times(1)).findById(userId);
     }
 
+    @Test
+    void findByIdShouldReadUserFromCacheOnRepeatedCalls() {
+        Long userId = 1L;
+        User user = User.builder()
+                .id(userId)
+                .name("Test User")
+                .email("test@mail.ru")
+                .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        userService.findById(userId);
+        UserDto result = userService.findById(userId);
+
+        assertEquals("Test User", result.getName());
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    void findByIdShouldNotCacheMissingUser() {
+        Long userId = 999L;
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> userService.findById(userId));
+        assertThrows(NotFoundException.class, () -> userService.findById(userId));
+        verify(userRepository, times(2)).findById(userId);
+    }
+
     @Test
     void createShouldSaveNewUser() {
         UserDto userDto = UserDto.builder()
@@ -72,7 +130,6 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.saveAndFlush(any())).thenReturn(savedUser);
-        when(userRepository.findAllByEmail(any())).thenReturn(Optional.empty());
 
         UserDto result = userService.create(userDto);
 
@@ -80,31 +137,19 @@ class UserServiceTest {
         assertEquals("New User", result.getName());
         assertEquals("new@mail.ru", result.getEmail());
         verify(userRepository, times(1)).saveAndFlush(any());
-        verify(userRepository, times(1)).findAllByEmail("new@mail.ru");
     }
 
     @Test
-    void createShouldThrowExceptionWhenEmailExists() {
+    void createShouldPropagateEmailConstraintViolation() {
         UserDto userDto = UserDto.builder()
                 .name("New User")
                 .email("existing@mail.ru")
                 .build();
 
-        User existingUser = User.builder()
-                .id(1L)
-                .name("Existing User")
-                .email("existing@mail.ru")
-                .build();
-
-        when(userRepository.findAllByEmail("existing@mail.ru")).thenReturn(Optional.of(existingUser));
+        when(userRepository.saveAndFlush(any())).thenThrow(emailViolation());
 
-        DuplicatedDataException exception = assertThrows(
-                DuplicatedDataException.class,
-                () -> userService.create(userDto)
-        );
-        assertEquals("Этот email уже используется", exception.getMessage());
-        verify(userRepository, never()).saveAndFlush(any());
-        verify(userRepository, times(1)).findAllByEmail("existing@mail.ru");
+        assertThrows(DataIntegrityViolationException.class, () -> userService.create(userDto));
+        verify(userRepository, times(1)).saveAndFlush(any());
     }
 
     @Test
@@ -124,7 +169,6 @@ class UserServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.saveAndFlush(any())).thenReturn(existingUser);
-        when(userRepository.findAllByEmail("new@mail.ru")).thenReturn(Optional.empty());
 
         UserDto result = userService.update(userId, updateDto);
 
@@ -133,7 +177,9 @@ class UserServiceTest {
         assertEquals("new@mail.ru", result.getEmail());
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).saveAndFlush(existingUser);
-        verify(userRepository, times(1)).findAllByEmail("new@mail.ru");
+        verify(ownerItemSummaryUpdater).expireAllByParticipant(userId);
+        assertEquals("New Name", userService.findById(userId).getName());
+        verify(userRepository, times(1)).findById(userId);
     }
 
     @Test
@@ -178,7 +224,6 @@ class UserServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.saveAndFlush(any())).thenReturn(existingUser);
-        when(userRepository.findAllByEmail("new@mail.ru")).thenReturn(Optional.empty());
 
         UserDto result = userService.update(userId, updateDto);
 
@@ -187,7 +232,6 @@ class UserServiceTest {
         assertEquals("new@mail.ru", result.getEmail());
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).saveAndFlush(existingUser);
-        verify(userRepository, times(1)).findAllByEmail("new@mail.ru");
     }
 
     @Test
@@ -211,21 +255,14 @@ class UserServiceTest {
     }
 
     @Test
-    void updateShouldThrowExceptionWhenEmailExists() {
+    void updateShouldPropagateEmailConstraintViolation() {
         Long userId = 1L;
-        Long otherUserId = 2L;
         User existingUser = User.builder()
                 .id(userId)
                 .name("User 1")
                 .email("user1@mail.ru")
                 .build();
 
-        User otherUser = User.builder()
-                .id(otherUserId)
-                .name("User 2")
-                .email("existing@mail.ru")
-                .build();
-
         UserDto updateDto = UserDto.builder()
                 .id(userId)
                 .name("User 1")
@@ -233,16 +270,10 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findAllByEmail("existing@mail.ru")).thenReturn(Optional.of(otherUser));
+        when(userRepository.saveAndFlush(existingUser)).thenThrow(emailViolation());
 
-        DuplicatedDataException exception = assertThrows(
-                DuplicatedDataException.class,
-                () -> userService.update(userId, updateDto)
-        );
-        assertEquals("Этот email уже используется", exception.getMessage());
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).findAllByEmail("existing@mail.ru");
-        verify(userRepository, never()).saveAndFlush(any());
+        assertThrows(DataIntegrityViolationException.class, () -> userService.update(userId, updateDto));
+        verify(userCache, never()).put(any());
     }
 
     @Test
@@ -254,12 +285,20 @@ class UserServiceTest {
                 .email("test@mail.ru")
                 .build();
 
+        ItemTextDto ownedItem = new ItemTextDto(5L, "Дрель", "Ударная", true);
+
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
+        when(itemRepository.findAllTextsByOwnerIdOrRequesterId(userId)).thenReturn(List.of(ownedItem));
+        when(itemRequestRepository.findAllIdsByRequesterId(userId)).thenReturn(List.of(3L));
 
+        userService.findById(userId);
         userService.delete(userId);
 
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(2)).findById(userId);
         verify(userRepository, times(1)).deleteById(userId);
+        verify(userCache).evict(userId);
+        verify(ownerItemSummaryUpdater).expireAllByParticipant(userId);
+        verify(eventPublisher).publishEvent(new UserDeletedEvent(userId, List.of(ownedItem), List.of(3L)));
     }
 
     @Test
@@ -274,5 +313,12 @@ class UserServiceTest {
         assertEquals("Пользователь не найден", exception.getMessage());
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, never()).deleteById(any());
+        verifyNoInteractions(ownerItemSummaryUpdater, eventPublisher);
+    }
+
+    private DataIntegrityViolationException emailViolation() {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        "uq_user_email"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.core.user.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.core.user.persistance.entity.dto.UserDto;
+import ru.practicum.shareit.utils.PrimaryReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final UserCache cache = new UserCache(100, 5, meterRegistry, new PrimaryReader(transactionManager));
+    private final List<Long> loads = new ArrayList<>();
+
+    @Test
+    void getShouldLoadOncePerUser() {
+        get(1L);
+        get(1L);
+        get(2L);
+
+        assertEquals(List.of(1L, 2L), loads);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.size").tag("cache", "users").gauge().value());
+    }
+
+    @Test
+    void putShouldReplaceCachedUser() {
+        get(1L);
+
+        cache.put(user(1L, "Renamed"));
+
+        assertEquals("Renamed", get(1L).getName());
+        assertEquals(List.of(1L), loads);
+    }
+
+    @Test
+    void evictShouldForceReload() {
+        get(1L);
+
+        cache.evict(1L);
+        get(1L);
+
+        assertEquals(List.of(1L, 1L), loads);
+    }
+
+    @Test
+    void getShouldLoadInWriteTransactionWhenCalledFromReadOnlyOne() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            get(1L);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        assertEquals(List.of(1L), loads);
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void getShouldLoadInPlaceOutsideReadOnlyTransaction() {
+        get(1L);
+
+        assertEquals(List.of(1L), loads);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void putAndEvictShouldWaitForTransactionCommit() {
+        get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.put(user(1L, "Renamed"));
+            cache.evict(2L);
+
+            assertEquals("User1", get(1L).getName());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("Renamed", get(1L).getName());
+    }
+
+    @Test
+    void putShouldBeDiscardedOnRollback() {
+        get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.put(user(1L, "Renamed"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("User1", get(1L).getName());
+    }
+
+    @Test
+    void cachedUserShouldNotBeChangedByCallers() {
+        UserDto created = user(1L, "User");
+        cache.put(created);
+        created.setName("Changed");
+        get(1L).setName("Changed");
+
+        assertEquals("User", get(1L).getName());
+        assertTrue(loads.isEmpty());
+    }
+
+    private UserDto get(Long id) {
+        return cache.get(id, key -> {
+            loads.add(key);
+            return user(key, "User" + key);
+        });
+    }
+
+    private UserDto user(Long id, String name) {
+        return UserDto.builder()
+                .id(id)
+                .name(name)
+                .email("user" + id + "@mail.ru")
+                .build();
+    }
+}